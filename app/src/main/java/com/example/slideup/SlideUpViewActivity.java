@@ -46,7 +46,6 @@ public class SlideUpViewActivity extends AppCompatActivity {
                 .withListeners(new SlideUp.Listener.Events() {
                     @Override
                     public void onSlide(float percent) {
-                        dim.setAlpha(1 - (percent / 100));
                         if (fab.isShown() && percent < 100) {
                             fab.hide();
                         }
@@ -59,6 +58,7 @@ public class SlideUpViewActivity extends AppCompatActivity {
                         }
                     }
                 })
+                .withBinding(dim, SlideUp.PROPERTY_ALPHA, 1f, 0f)
                 .withStartGravity(Gravity.BOTTOM)
                 .withLoggingEnabled(true)
                 .withGesturesEnabled(true)
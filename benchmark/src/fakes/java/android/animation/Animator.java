@@ -0,0 +1,48 @@
+package android.animation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JVM fake of {@code android.animation.Animator}
+ */
+public abstract class Animator {
+    
+    public interface AnimatorListener {
+        void onAnimationStart(Animator animation);
+        
+        void onAnimationEnd(Animator animation);
+        
+        void onAnimationCancel(Animator animation);
+        
+        void onAnimationRepeat(Animator animation);
+    }
+    
+    final List<AnimatorListener> mListeners = new ArrayList<>();
+    
+    public void addListener(AnimatorListener listener) {
+        mListeners.add(listener);
+    }
+    
+    public void removeListener(AnimatorListener listener) {
+        mListeners.remove(listener);
+    }
+    
+    public void removeAllListeners() {
+        mListeners.clear();
+    }
+    
+    public abstract void start();
+    
+    public abstract void cancel();
+    
+    public abstract void end();
+    
+    public abstract boolean isRunning();
+    
+    public abstract Animator setDuration(long duration);
+    
+    public abstract long getDuration();
+    
+    public abstract void setInterpolator(TimeInterpolator value);
+}
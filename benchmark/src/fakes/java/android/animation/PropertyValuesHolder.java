@@ -0,0 +1,7 @@
+package android.animation;
+
+/**
+ * JVM fake of {@code android.animation.PropertyValuesHolder}
+ */
+public class PropertyValuesHolder {
+}
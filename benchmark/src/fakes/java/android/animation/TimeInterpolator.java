@@ -0,0 +1,9 @@
+package android.animation;
+
+/**
+ * JVM copy of {@code android.animation.TimeInterpolator}
+ */
+public interface TimeInterpolator {
+    
+    float getInterpolation(float input);
+}
@@ -0,0 +1,159 @@
+package android.animation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JVM fake of {@code android.animation.ValueAnimator} for float values,
+ * running animators are advanced by {@link #advanceAll(long)} instead of the display frames
+ */
+public class ValueAnimator extends Animator {
+    private static final List<ValueAnimator> sRunning = new ArrayList<>();
+    
+    public interface AnimatorUpdateListener {
+        void onAnimationUpdate(ValueAnimator animation);
+    }
+    
+    private final List<AnimatorUpdateListener> mUpdateListeners = new ArrayList<>();
+    private final PropertyValuesHolder[] mValues = {new PropertyValuesHolder()};
+    private float[] mFloatValues;
+    private long mDuration = 300;
+    private TimeInterpolator mInterpolator;
+    private long mPlayTime;
+    private boolean mRunning;
+    private float mAnimatedFraction;
+    private Object mAnimatedValue;
+    
+    public static ValueAnimator ofFloat(float... values) {
+        ValueAnimator animator = new ValueAnimator();
+        animator.setFloatValues(values);
+        return animator;
+    }
+    
+    /**
+     * <p>Moves all running animators forward by the given time</p>
+     */
+    public static void advanceAll(long deltaMillis) {
+        ValueAnimator[] running = sRunning.toArray(new ValueAnimator[sRunning.size()]);
+        for (ValueAnimator animator : running) {
+            animator.advance(deltaMillis);
+        }
+    }
+    
+    public void setFloatValues(float... values) {
+        mFloatValues = values;
+    }
+    
+    public PropertyValuesHolder[] getValues() {
+        return mFloatValues == null || mFloatValues.length == 0 ? null : mValues;
+    }
+    
+    @Override
+    public ValueAnimator setDuration(long duration) {
+        mDuration = duration;
+        return this;
+    }
+    
+    @Override
+    public long getDuration() {
+        return mDuration;
+    }
+    
+    @Override
+    public void setInterpolator(TimeInterpolator value) {
+        mInterpolator = value;
+    }
+    
+    public void addUpdateListener(AnimatorUpdateListener listener) {
+        mUpdateListeners.add(listener);
+    }
+    
+    public void removeAllUpdateListeners() {
+        mUpdateListeners.clear();
+    }
+    
+    public Object getAnimatedValue() {
+        return mAnimatedValue;
+    }
+    
+    public float getAnimatedFraction() {
+        return mAnimatedFraction;
+    }
+    
+    public long getCurrentPlayTime() {
+        return mPlayTime;
+    }
+    
+    @Override
+    public void start() {
+        if (mRunning) {
+            cancel();
+        }
+        mRunning = true;
+        mPlayTime = 0;
+        sRunning.add(this);
+        for (AnimatorListener listener : new ArrayList<>(mListeners)) {
+            listener.onAnimationStart(this);
+        }
+        animateValue(0);
+    }
+    
+    @Override
+    public void cancel() {
+        if (!mRunning) {
+            return;
+        }
+        stop();
+        for (AnimatorListener listener : new ArrayList<>(mListeners)) {
+            listener.onAnimationCancel(this);
+        }
+        for (AnimatorListener listener : new ArrayList<>(mListeners)) {
+            listener.onAnimationEnd(this);
+        }
+    }
+    
+    @Override
+    public void end() {
+        if (!mRunning) {
+            return;
+        }
+        animateValue(1);
+        stop();
+        for (AnimatorListener listener : new ArrayList<>(mListeners)) {
+            listener.onAnimationEnd(this);
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return mRunning;
+    }
+    
+    private void advance(long deltaMillis) {
+        mPlayTime += deltaMillis;
+        if (mDuration <= 0 || mPlayTime >= mDuration) {
+            end();
+        } else {
+            animateValue((float) mPlayTime / mDuration);
+        }
+    }
+    
+    private void stop() {
+        mRunning = false;
+        sRunning.remove(this);
+    }
+    
+    private void animateValue(float fraction) {
+        if (mFloatValues == null || mFloatValues.length == 0) {
+            return;
+        }
+        float interpolated = mInterpolator != null ? mInterpolator.getInterpolation(fraction) : fraction;
+        mAnimatedFraction = interpolated;
+        float from = mFloatValues.length == 1 ? 0 : mFloatValues[0];
+        float to = mFloatValues[mFloatValues.length - 1];
+        mAnimatedValue = from + (to - from) * interpolated;
+        for (int i = 0; i < mUpdateListeners.size(); i++) {
+            mUpdateListeners.get(i).onAnimationUpdate(this);
+        }
+    }
+}
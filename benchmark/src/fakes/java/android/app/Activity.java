@@ -0,0 +1,22 @@
+package android.app;
+
+import android.content.ContextWrapper;
+import android.view.Window;
+
+/**
+ * JVM fake of {@code android.app.Activity}
+ */
+public class Activity extends ContextWrapper {
+    
+    public Activity() {
+        super(null);
+    }
+    
+    public Window getWindow() {
+        return null;
+    }
+    
+    public Application getApplication() {
+        return null;
+    }
+}
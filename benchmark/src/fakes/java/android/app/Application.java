@@ -0,0 +1,36 @@
+package android.app;
+
+import android.content.ContextWrapper;
+import android.os.Bundle;
+
+/**
+ * JVM fake of {@code android.app.Application}
+ */
+public class Application extends ContextWrapper {
+    
+    public interface ActivityLifecycleCallbacks {
+        void onActivityCreated(Activity activity, Bundle savedInstanceState);
+        
+        void onActivityStarted(Activity activity);
+        
+        void onActivityResumed(Activity activity);
+        
+        void onActivityPaused(Activity activity);
+        
+        void onActivityStopped(Activity activity);
+        
+        void onActivitySaveInstanceState(Activity activity, Bundle outState);
+        
+        void onActivityDestroyed(Activity activity);
+    }
+    
+    public Application() {
+        super(null);
+    }
+    
+    public void registerActivityLifecycleCallbacks(ActivityLifecycleCallbacks callback) {
+    }
+    
+    public void unregisterActivityLifecycleCallbacks(ActivityLifecycleCallbacks callback) {
+    }
+}
@@ -0,0 +1,14 @@
+package android.content;
+
+import android.content.res.Resources;
+
+/**
+ * JVM fake of {@code android.content.Context}
+ */
+public abstract class Context {
+    public static final String INPUT_METHOD_SERVICE = "input_method";
+    
+    public abstract Resources getResources();
+    
+    public abstract Object getSystemService(String name);
+}
@@ -0,0 +1,28 @@
+package android.content;
+
+import android.content.res.Resources;
+
+/**
+ * JVM fake of {@code android.content.ContextWrapper}
+ */
+public class ContextWrapper extends Context {
+    private final Context mBase;
+    
+    public ContextWrapper(Context base) {
+        mBase = base;
+    }
+    
+    public Context getBaseContext() {
+        return mBase;
+    }
+    
+    @Override
+    public Resources getResources() {
+        return mBase.getResources();
+    }
+    
+    @Override
+    public Object getSystemService(String name) {
+        return mBase.getSystemService(name);
+    }
+}
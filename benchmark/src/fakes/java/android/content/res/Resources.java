@@ -0,0 +1,22 @@
+package android.content.res;
+
+import android.util.DisplayMetrics;
+
+/**
+ * JVM fake of {@code android.content.res.Resources}, all booleans are false
+ */
+public class Resources {
+    private final DisplayMetrics mMetrics;
+    
+    public Resources(DisplayMetrics metrics) {
+        mMetrics = metrics;
+    }
+    
+    public DisplayMetrics getDisplayMetrics() {
+        return mMetrics;
+    }
+    
+    public boolean getBoolean(int id) {
+        return false;
+    }
+}
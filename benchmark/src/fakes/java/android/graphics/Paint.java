@@ -0,0 +1,7 @@
+package android.graphics;
+
+/**
+ * JVM fake of {@code android.graphics.Paint}
+ */
+public class Paint {
+}
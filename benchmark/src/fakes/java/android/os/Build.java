@@ -0,0 +1,25 @@
+package android.os;
+
+/**
+ * JVM fake of {@code android.os.Build}, pretends to be the target api level of the library
+ */
+public class Build {
+    
+    public static class VERSION {
+        public static final int SDK_INT = VERSION_CODES.O_MR1;
+    }
+    
+    public static class VERSION_CODES {
+        public static final int JELLY_BEAN = 16;
+        public static final int JELLY_BEAN_MR1 = 17;
+        public static final int KITKAT = 19;
+        public static final int LOLLIPOP = 21;
+        public static final int M = 23;
+        public static final int N = 24;
+        public static final int O = 26;
+        public static final int O_MR1 = 27;
+        public static final int P = 28;
+        public static final int Q = 29;
+        public static final int R = 30;
+    }
+}
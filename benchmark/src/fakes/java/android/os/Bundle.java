@@ -0,0 +1,61 @@
+package android.os;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JVM fake of {@code android.os.Bundle}
+ */
+public final class Bundle {
+    private final Map<String, Object> mMap = new HashMap<>();
+    
+    public void putBoolean(String key, boolean value) {
+        mMap.put(key, value);
+    }
+    
+    public void putInt(String key, int value) {
+        mMap.put(key, value);
+    }
+    
+    public void putFloat(String key, float value) {
+        mMap.put(key, value);
+    }
+    
+    public void putSerializable(String key, Serializable value) {
+        mMap.put(key, value);
+    }
+    
+    public void putParcelable(String key, Parcelable value) {
+        mMap.put(key, value);
+    }
+    
+    public void setClassLoader(ClassLoader loader) {
+    }
+    
+    public boolean getBoolean(String key, boolean defaultValue) {
+        Object value = mMap.get(key);
+        return value instanceof Boolean ? (Boolean) value : defaultValue;
+    }
+    
+    public int getInt(String key, int defaultValue) {
+        Object value = mMap.get(key);
+        return value instanceof Integer ? (Integer) value : defaultValue;
+    }
+    
+    public float getFloat(String key, float defaultValue) {
+        Object value = mMap.get(key);
+        return value instanceof Float ? (Float) value : defaultValue;
+    }
+    
+    public Serializable getSerializable(String key) {
+        Object value = mMap.get(key);
+        return value instanceof Serializable ? (Serializable) value : null;
+    }
+    
+    @SuppressWarnings("unchecked")
+    public <T extends Parcelable> T getParcelable(String key) {
+        Object value = mMap.get(key);
+        return value instanceof Parcelable ? (T) value : null;
+    }
+}
@@ -0,0 +1,28 @@
+package android.os;
+
+/**
+ * JVM fake of {@code android.os.Handler}, runnables are never executed
+ */
+public class Handler {
+    
+    public Handler(Looper looper) {
+    }
+    
+    public final boolean post(Runnable r) {
+        return true;
+    }
+    
+    public final boolean postAtTime(Runnable r, long uptimeMillis) {
+        return true;
+    }
+    
+    public final boolean postDelayed(Runnable r, long delayMillis) {
+        return true;
+    }
+    
+    public final void removeCallbacks(Runnable r) {
+    }
+    
+    public final void removeCallbacksAndMessages(Object token) {
+    }
+}
@@ -0,0 +1,7 @@
+package android.os;
+
+/**
+ * JVM fake of {@code android.os.IBinder}
+ */
+public interface IBinder {
+}
@@ -0,0 +1,12 @@
+package android.os;
+
+/**
+ * JVM fake of {@code android.os.Looper}
+ */
+public final class Looper {
+    private static final Looper sMainLooper = new Looper();
+    
+    public static Looper getMainLooper() {
+        return sMainLooper;
+    }
+}
@@ -0,0 +1,64 @@
+package android.os;
+
+import java.nio.ByteBuffer;
+
+/**
+ * JVM fake of {@code android.os.Parcel} backed by a growing byte buffer
+ */
+public final class Parcel {
+    private ByteBuffer mBuffer = ByteBuffer.allocate(64);
+    
+    private Parcel() {
+    }
+    
+    public static Parcel obtain() {
+        return new Parcel();
+    }
+    
+    public void recycle() {
+    }
+    
+    public int dataSize() {
+        return mBuffer.position();
+    }
+    
+    public void setDataPosition(int position) {
+        mBuffer.position(position);
+    }
+    
+    public void writeInt(int value) {
+        ensureCapacity(4);
+        mBuffer.putInt(value);
+    }
+    
+    public void writeFloat(float value) {
+        ensureCapacity(4);
+        mBuffer.putFloat(value);
+    }
+    
+    public void writeByte(byte value) {
+        ensureCapacity(1);
+        mBuffer.put(value);
+    }
+    
+    public int readInt() {
+        return mBuffer.getInt();
+    }
+    
+    public float readFloat() {
+        return mBuffer.getFloat();
+    }
+    
+    public byte readByte() {
+        return mBuffer.get();
+    }
+    
+    private void ensureCapacity(int bytes) {
+        if (mBuffer.remaining() < bytes) {
+            ByteBuffer buffer = ByteBuffer.allocate(mBuffer.capacity() * 2);
+            mBuffer.flip();
+            buffer.put(mBuffer);
+            mBuffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package android.os;
+
+/**
+ * JVM fake of {@code android.os.SystemClock}
+ */
+public final class SystemClock {
+    
+    public static long uptimeMillis() {
+        return System.nanoTime() / 1000000;
+    }
+}
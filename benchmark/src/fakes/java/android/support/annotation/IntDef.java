@@ -0,0 +1,10 @@
+package android.support.annotation;
+
+/**
+ * JVM copy of {@code android.support.annotation.IntDef}
+ */
+public @interface IntDef {
+    long[] value() default {};
+    
+    boolean flag() default false;
+}
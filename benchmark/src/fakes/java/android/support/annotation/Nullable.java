@@ -0,0 +1,7 @@
+package android.support.annotation;
+
+/**
+ * JVM copy of {@code android.support.annotation.Nullable}
+ */
+public @interface Nullable {
+}
@@ -0,0 +1,19 @@
+package android.support.v4.view;
+
+import android.view.View;
+
+/**
+ * JVM fake of {@code android.support.v4.view.NestedScrollingParent2}
+ */
+public interface NestedScrollingParent2 extends NestedScrollingParent {
+    
+    boolean onStartNestedScroll(View child, View target, int axes, int type);
+    
+    void onNestedScrollAccepted(View child, View target, int axes, int type);
+    
+    void onStopNestedScroll(View target, int type);
+    
+    void onNestedScroll(View target, int dxConsumed, int dyConsumed, int dxUnconsumed, int dyUnconsumed, int type);
+    
+    void onNestedPreScroll(View target, int dx, int dy, int[] consumed, int type);
+}
@@ -0,0 +1,34 @@
+package android.support.v4.view;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+/**
+ * JVM fake of {@code android.support.v4.view.NestedScrollingParentHelper}
+ */
+public class NestedScrollingParentHelper {
+    private int mNestedScrollAxes;
+    
+    public NestedScrollingParentHelper(ViewGroup viewGroup) {
+    }
+    
+    public void onNestedScrollAccepted(View child, View target, int axes) {
+        onNestedScrollAccepted(child, target, axes, ViewCompat.TYPE_TOUCH);
+    }
+    
+    public void onNestedScrollAccepted(View child, View target, int axes, int type) {
+        mNestedScrollAxes = axes;
+    }
+    
+    public int getNestedScrollAxes() {
+        return mNestedScrollAxes;
+    }
+    
+    public void onStopNestedScroll(View target) {
+        onStopNestedScroll(target, ViewCompat.TYPE_TOUCH);
+    }
+    
+    public void onStopNestedScroll(View target, int type) {
+        mNestedScrollAxes = 0;
+    }
+}
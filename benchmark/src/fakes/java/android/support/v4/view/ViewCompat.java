@@ -0,0 +1,13 @@
+package android.support.v4.view;
+
+/**
+ * JVM fake of {@code android.support.v4.view.ViewCompat}
+ */
+public class ViewCompat {
+    public static final int SCROLL_AXIS_NONE = 0;
+    public static final int SCROLL_AXIS_HORIZONTAL = 1;
+    public static final int SCROLL_AXIS_VERTICAL = 2;
+    
+    public static final int TYPE_TOUCH = 0;
+    public static final int TYPE_NON_TOUCH = 1;
+}
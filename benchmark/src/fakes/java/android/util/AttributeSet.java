@@ -0,0 +1,7 @@
+package android.util;
+
+/**
+ * JVM fake of {@code android.util.AttributeSet}
+ */
+public interface AttributeSet {
+}
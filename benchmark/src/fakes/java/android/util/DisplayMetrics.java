@@ -0,0 +1,8 @@
+package android.util;
+
+/**
+ * JVM fake of {@code android.util.DisplayMetrics}
+ */
+public class DisplayMetrics {
+    public float density = 1;
+}
@@ -0,0 +1,37 @@
+package android.view;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JVM fake of {@code android.view.Choreographer}, frames are produced by {@link #doFrame(long)}
+ */
+public final class Choreographer {
+    private static final Choreographer sInstance = new Choreographer();
+    
+    public interface FrameCallback {
+        void doFrame(long frameTimeNanos);
+    }
+    
+    private final List<FrameCallback> mCallbacks = new ArrayList<>();
+    
+    public static Choreographer getInstance() {
+        return sInstance;
+    }
+    
+    public void postFrameCallback(FrameCallback callback) {
+        mCallbacks.add(callback);
+    }
+    
+    public void removeFrameCallback(FrameCallback callback) {
+        mCallbacks.remove(callback);
+    }
+    
+    public void doFrame(long frameTimeNanos) {
+        FrameCallback[] callbacks = mCallbacks.toArray(new FrameCallback[mCallbacks.size()]);
+        mCallbacks.clear();
+        for (FrameCallback callback : callbacks) {
+            callback.doFrame(frameTimeNanos);
+        }
+    }
+}
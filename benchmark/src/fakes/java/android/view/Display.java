@@ -0,0 +1,11 @@
+package android.view;
+
+/**
+ * JVM fake of {@code android.view.Display}
+ */
+public final class Display {
+    
+    public float getRefreshRate() {
+        return 60;
+    }
+}
@@ -0,0 +1,13 @@
+package android.view;
+
+/**
+ * JVM fake of {@code android.view.FrameMetrics}
+ */
+public final class FrameMetrics {
+    public static final int TOTAL_DURATION = 8;
+    public static final int INTENDED_VSYNC_TIMESTAMP = 11;
+    
+    public long getMetric(int id) {
+        return 0;
+    }
+}
@@ -0,0 +1,141 @@
+package android.view;
+
+import java.util.Arrays;
+
+/**
+ * JVM fake of {@code android.view.MotionEvent} with a single pointer
+ */
+public final class MotionEvent {
+    public static final int ACTION_DOWN = 0;
+    public static final int ACTION_UP = 1;
+    public static final int ACTION_MOVE = 2;
+    public static final int ACTION_CANCEL = 3;
+    
+    private long mDownTime;
+    private long mEventTime;
+    private int mAction;
+    private float mX;
+    private float mY;
+    private float mRawX;
+    private float mRawY;
+    private int mHistorySize;
+    private long[] mHistoricalTimes = new long[0];
+    private float[] mHistoricalX = new float[0];
+    private float[] mHistoricalY = new float[0];
+    
+    private MotionEvent() {
+    }
+    
+    public static MotionEvent obtain(long downTime, long eventTime, int action, float x, float y, int metaState) {
+        MotionEvent event = new MotionEvent();
+        event.mDownTime = downTime;
+        event.mEventTime = eventTime;
+        event.mAction = action;
+        event.mX = event.mRawX = x;
+        event.mY = event.mRawY = y;
+        return event;
+    }
+    
+    public static MotionEvent obtain(MotionEvent other) {
+        MotionEvent event = new MotionEvent();
+        event.mDownTime = other.mDownTime;
+        event.mEventTime = other.mEventTime;
+        event.mAction = other.mAction;
+        event.mX = other.mX;
+        event.mY = other.mY;
+        event.mRawX = other.mRawX;
+        event.mRawY = other.mRawY;
+        event.mHistorySize = other.mHistorySize;
+        event.mHistoricalTimes = other.mHistoricalTimes.clone();
+        event.mHistoricalX = other.mHistoricalX.clone();
+        event.mHistoricalY = other.mHistoricalY.clone();
+        return event;
+    }
+    
+    public void recycle() {
+    }
+    
+    public int getAction() {
+        return mAction;
+    }
+    
+    public int getActionMasked() {
+        return mAction & 0xff;
+    }
+    
+    public long getDownTime() {
+        return mDownTime;
+    }
+    
+    public long getEventTime() {
+        return mEventTime;
+    }
+    
+    public float getX() {
+        return mX;
+    }
+    
+    public float getY() {
+        return mY;
+    }
+    
+    public float getRawX() {
+        return mRawX;
+    }
+    
+    public float getRawY() {
+        return mRawY;
+    }
+    
+    public void addBatch(long eventTime, float x, float y, float pressure, float size, int metaState) {
+        if (mHistorySize == mHistoricalTimes.length) {
+            int capacity = Math.max(4, mHistorySize * 2);
+            mHistoricalTimes = Arrays.copyOf(mHistoricalTimes, capacity);
+            mHistoricalX = Arrays.copyOf(mHistoricalX, capacity);
+            mHistoricalY = Arrays.copyOf(mHistoricalY, capacity);
+        }
+        mHistoricalTimes[mHistorySize] = mEventTime;
+        mHistoricalX[mHistorySize] = mX;
+        mHistoricalY[mHistorySize] = mY;
+        mHistorySize++;
+        mRawX += x - mX;
+        mRawY += y - mY;
+        mEventTime = eventTime;
+        mX = x;
+        mY = y;
+    }
+    
+    public int getHistorySize() {
+        return mHistorySize;
+    }
+    
+    public float getHistoricalX(int pos) {
+        checkHistoryPosition(pos);
+        return mHistoricalX[pos];
+    }
+    
+    public float getHistoricalY(int pos) {
+        checkHistoryPosition(pos);
+        return mHistoricalY[pos];
+    }
+    
+    public long getHistoricalEventTime(int pos) {
+        checkHistoryPosition(pos);
+        return mHistoricalTimes[pos];
+    }
+    
+    public void offsetLocation(float deltaX, float deltaY) {
+        mX += deltaX;
+        mY += deltaY;
+        for (int i = 0; i < mHistorySize; i++) {
+            mHistoricalX[i] += deltaX;
+            mHistoricalY[i] += deltaY;
+        }
+    }
+    
+    private void checkHistoryPosition(int pos) {
+        if (pos < 0 || pos >= mHistorySize) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package android.view;
+
+/**
+ * JVM fake of {@code android.view.VelocityTracker} which estimates velocity from the first and the last samples
+ */
+public final class VelocityTracker {
+    private int mCount;
+    private long mFirstTime;
+    private float mFirstX;
+    private float mFirstY;
+    private long mLastTime;
+    private float mLastX;
+    private float mLastY;
+    private float mXVelocity;
+    private float mYVelocity;
+    
+    private VelocityTracker() {
+    }
+    
+    public static VelocityTracker obtain() {
+        return new VelocityTracker();
+    }
+    
+    public void recycle() {
+    }
+    
+    public void clear() {
+        mCount = 0;
+    }
+    
+    public void addMovement(MotionEvent event) {
+        if (mCount++ == 0) {
+            mFirstTime = event.getEventTime();
+            mFirstX = event.getX();
+            mFirstY = event.getY();
+        }
+        mLastTime = event.getEventTime();
+        mLastX = event.getX();
+        mLastY = event.getY();
+    }
+    
+    public void computeCurrentVelocity(int units, float maxVelocity) {
+        long time = mLastTime - mFirstTime;
+        if (time <= 0) {
+            mXVelocity = mYVelocity = 0;
+            return;
+        }
+        mXVelocity = Math.max(-maxVelocity, Math.min((mLastX - mFirstX) * units / time, maxVelocity));
+        mYVelocity = Math.max(-maxVelocity, Math.min((mLastY - mFirstY) * units / time, maxVelocity));
+    }
+    
+    public float getXVelocity() {
+        return mXVelocity;
+    }
+    
+    public float getYVelocity() {
+        return mYVelocity;
+    }
+}
@@ -0,0 +1,342 @@
+package android.view;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.os.IBinder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JVM fake of {@code android.view.View} which keeps only geometry, translation and visibility
+ */
+public class View {
+    public static final int VISIBLE = 0;
+    public static final int INVISIBLE = 4;
+    public static final int GONE = 8;
+    public static final int LAYER_TYPE_NONE = 0;
+    public static final int LAYER_TYPE_SOFTWARE = 1;
+    public static final int LAYER_TYPE_HARDWARE = 2;
+    public static final int NO_ID = -1;
+    
+    public static class MeasureSpec {
+        private static final int MODE_MASK = 0x3 << 30;
+        public static final int UNSPECIFIED = 0;
+        public static final int EXACTLY = 1 << 30;
+        public static final int AT_MOST = 2 << 30;
+        
+        public static int makeMeasureSpec(int size, int mode) {
+            return (size & ~MODE_MASK) | (mode & MODE_MASK);
+        }
+        
+        public static int getMode(int measureSpec) {
+            return measureSpec & MODE_MASK;
+        }
+        
+        public static int getSize(int measureSpec) {
+            return measureSpec & ~MODE_MASK;
+        }
+    }
+    
+    public interface OnTouchListener {
+        boolean onTouch(View v, MotionEvent event);
+    }
+    
+    public interface OnLayoutChangeListener {
+        void onLayoutChange(View v, int left, int top, int right, int bottom,
+                            int oldLeft, int oldTop, int oldRight, int oldBottom);
+    }
+    
+    public interface OnClickListener {
+        void onClick(View v);
+    }
+    
+    private final Context mContext;
+    private final ViewTreeObserver mViewTreeObserver = new ViewTreeObserver();
+    private int mLeft;
+    private int mTop;
+    private int mRight;
+    private int mBottom;
+    private float mTranslationX;
+    private float mTranslationY;
+    private float mAlpha = 1;
+    private float mScaleX = 1;
+    private float mScaleY = 1;
+    private float mRotation;
+    private float mPivotX;
+    private float mPivotY;
+    private int mVisibility = VISIBLE;
+    private int mLayerType = LAYER_TYPE_NONE;
+    private OnTouchListener mOnTouchListener;
+    private final List<OnLayoutChangeListener> mOnLayoutChangeListeners = new ArrayList<>();
+    private ViewPropertyAnimator mAnimator;
+    private ViewParent mParent;
+    private ViewGroup.LayoutParams mLayoutParams;
+    private int mId = NO_ID;
+    private int mMeasuredWidth;
+    private int mMeasuredHeight;
+    
+    public View(Context context) {
+        mContext = context;
+    }
+    
+    public void layout(int l, int t, int r, int b) {
+        int oldLeft = mLeft;
+        int oldTop = mTop;
+        int oldRight = mRight;
+        int oldBottom = mBottom;
+        mLeft = l;
+        mTop = t;
+        mRight = r;
+        mBottom = b;
+        if (l != oldLeft || t != oldTop || r != oldRight || b != oldBottom) {
+            for (OnLayoutChangeListener listener : mOnLayoutChangeListeners.toArray(new OnLayoutChangeListener[0])) {
+                listener.onLayoutChange(this, l, t, r, b, oldLeft, oldTop, oldRight, oldBottom);
+            }
+        }
+    }
+    
+    public void addOnLayoutChangeListener(OnLayoutChangeListener listener) {
+        mOnLayoutChangeListeners.add(listener);
+    }
+    
+    public void removeOnLayoutChangeListener(OnLayoutChangeListener listener) {
+        mOnLayoutChangeListeners.remove(listener);
+    }
+    
+    public boolean dispatchTouchEvent(MotionEvent event) {
+        if (mOnTouchListener != null && mOnTouchListener.onTouch(this, event)) {
+            return true;
+        }
+        return onTouchEvent(event);
+    }
+    
+    public boolean onTouchEvent(MotionEvent event) {
+        return false;
+    }
+    
+    public int getScrollX() {
+        return 0;
+    }
+    
+    public int getScrollY() {
+        return 0;
+    }
+    
+    public boolean canScrollVertically(int direction) {
+        return false;
+    }
+    
+    public boolean canScrollHorizontally(int direction) {
+        return false;
+    }
+    
+    public void setOnTouchListener(OnTouchListener l) {
+        mOnTouchListener = l;
+    }
+    
+    public ViewTreeObserver getViewTreeObserver() {
+        return mViewTreeObserver;
+    }
+    
+    public ViewParent getParent() {
+        return mParent;
+    }
+    
+    void setParent(ViewParent parent) {
+        mParent = parent;
+    }
+    
+    public ViewGroup.LayoutParams getLayoutParams() {
+        return mLayoutParams;
+    }
+    
+    public void setLayoutParams(ViewGroup.LayoutParams params) {
+        mLayoutParams = params;
+    }
+    
+    public int getId() {
+        return mId;
+    }
+    
+    public void setId(int id) {
+        mId = id;
+    }
+    
+    public Context getContext() {
+        return mContext;
+    }
+    
+    public Resources getResources() {
+        return mContext.getResources();
+    }
+    
+    public IBinder getWindowToken() {
+        return null;
+    }
+    
+    public Display getDisplay() {
+        return null;
+    }
+    
+    /**
+     * <p>Fake view has no content, so it takes the whole size allowed by the parent</p>
+     */
+    public void measure(int widthMeasureSpec, int heightMeasureSpec) {
+        mMeasuredWidth = MeasureSpec.getSize(widthMeasureSpec);
+        mMeasuredHeight = MeasureSpec.getSize(heightMeasureSpec);
+    }
+    
+    public int getMeasuredWidth() {
+        return mMeasuredWidth;
+    }
+    
+    public int getMeasuredHeight() {
+        return mMeasuredHeight;
+    }
+    
+    public int getPaddingLeft() {
+        return 0;
+    }
+    
+    public int getPaddingTop() {
+        return 0;
+    }
+    
+    public int getPaddingRight() {
+        return 0;
+    }
+    
+    public int getPaddingBottom() {
+        return 0;
+    }
+    
+    public int getWidth() {
+        return mRight - mLeft;
+    }
+    
+    public int getHeight() {
+        return mBottom - mTop;
+    }
+    
+    public int getLeft() {
+        return mLeft;
+    }
+    
+    public int getTop() {
+        return mTop;
+    }
+    
+    public int getRight() {
+        return mRight;
+    }
+    
+    public int getBottom() {
+        return mBottom;
+    }
+    
+    public float getX() {
+        return mLeft + mTranslationX;
+    }
+    
+    public float getY() {
+        return mTop + mTranslationY;
+    }
+    
+    public float getTranslationX() {
+        return mTranslationX;
+    }
+    
+    public void setTranslationX(float translationX) {
+        mTranslationX = translationX;
+    }
+    
+    public float getAlpha() {
+        return mAlpha;
+    }
+    
+    public void setAlpha(float alpha) {
+        mAlpha = alpha;
+    }
+    
+    public float getScaleX() {
+        return mScaleX;
+    }
+    
+    public void setScaleX(float scaleX) {
+        mScaleX = scaleX;
+    }
+    
+    public float getScaleY() {
+        return mScaleY;
+    }
+    
+    public void setScaleY(float scaleY) {
+        mScaleY = scaleY;
+    }
+    
+    public float getRotation() {
+        return mRotation;
+    }
+    
+    public void setRotation(float rotation) {
+        mRotation = rotation;
+    }
+    
+    public float getTranslationY() {
+        return mTranslationY;
+    }
+    
+    public void setTranslationY(float translationY) {
+        mTranslationY = translationY;
+    }
+    
+    public void setPivotX(float pivotX) {
+        mPivotX = pivotX;
+    }
+    
+    public void setPivotY(float pivotY) {
+        mPivotY = pivotY;
+    }
+    
+    public int getVisibility() {
+        return mVisibility;
+    }
+    
+    public void setVisibility(int visibility) {
+        mVisibility = visibility;
+    }
+    
+    public int getLayerType() {
+        return mLayerType;
+    }
+    
+    public void setLayerType(int layerType, Paint paint) {
+        mLayerType = layerType;
+    }
+    
+    public ViewPropertyAnimator animate() {
+        if (mAnimator == null) {
+            mAnimator = new ViewPropertyAnimator(this);
+        }
+        return mAnimator;
+    }
+    
+    public boolean performClick() {
+        return false;
+    }
+    
+    public void getHitRect(Rect outRect) {
+        outRect.set((int) getX(), (int) getY(), (int) getX() + getWidth(), (int) getY() + getHeight());
+    }
+    
+    public boolean post(Runnable action) {
+        return true;
+    }
+    
+    public boolean removeCallbacks(Runnable action) {
+        return true;
+    }
+}
@@ -0,0 +1,26 @@
+package android.view;
+
+import android.content.Context;
+
+/**
+ * JVM fake of {@code android.view.ViewConfiguration} with values of mdpi screen
+ */
+public class ViewConfiguration {
+    private static final ViewConfiguration sInstance = new ViewConfiguration();
+    
+    public static ViewConfiguration get(Context context) {
+        return sInstance;
+    }
+    
+    public int getScaledTouchSlop() {
+        return 8;
+    }
+    
+    public int getScaledMinimumFlingVelocity() {
+        return 50;
+    }
+    
+    public int getScaledMaximumFlingVelocity() {
+        return 8000;
+    }
+}
@@ -0,0 +1,95 @@
+package android.view;
+
+import android.content.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JVM fake of {@code android.view.ViewGroup} which keeps only the list of children
+ */
+public abstract class ViewGroup extends View implements ViewParent {
+    private final List<View> mChildren = new ArrayList<>();
+    
+    public static class LayoutParams {
+        public static final int MATCH_PARENT = -1;
+        public static final int WRAP_CONTENT = -2;
+        public int width;
+        public int height;
+        
+        public LayoutParams(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+    }
+    
+    public static class MarginLayoutParams extends LayoutParams {
+        public int leftMargin;
+        public int topMargin;
+        public int rightMargin;
+        public int bottomMargin;
+        
+        public MarginLayoutParams(int width, int height) {
+            super(width, height);
+        }
+    }
+    
+    public ViewGroup(Context context) {
+        super(context);
+    }
+    
+    public static int getChildMeasureSpec(int spec, int padding, int childDimension) {
+        int size = Math.max(0, MeasureSpec.getSize(spec) - padding);
+        if (childDimension >= 0) {
+            return MeasureSpec.makeMeasureSpec(childDimension, MeasureSpec.EXACTLY);
+        }
+        if (MeasureSpec.getMode(spec) == MeasureSpec.UNSPECIFIED) {
+            return MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED);
+        }
+        int mode = childDimension == LayoutParams.MATCH_PARENT ? MeasureSpec.getMode(spec) : MeasureSpec.AT_MOST;
+        return MeasureSpec.makeMeasureSpec(size, mode);
+    }
+    
+    public boolean onInterceptTouchEvent(MotionEvent event) {
+        return false;
+    }
+    
+    public int getChildCount() {
+        return mChildren.size();
+    }
+    
+    public View getChildAt(int index) {
+        return mChildren.get(index);
+    }
+    
+    public int indexOfChild(View child) {
+        return mChildren.indexOf(child);
+    }
+    
+    public void addView(View child) {
+        addView(child, -1);
+    }
+    
+    public void addView(View child, int index) {
+        addView(child, index, child.getLayoutParams());
+    }
+    
+    public void addView(View child, int index, LayoutParams params) {
+        child.setParent(this);
+        child.setLayoutParams(params);
+        mChildren.add(index < 0 ? mChildren.size() : index, child);
+    }
+    
+    public void removeView(View child) {
+        if (mChildren.remove(child)) {
+            child.setParent(null);
+        }
+    }
+    
+    public void removeAllViews() {
+        for (View child : mChildren) {
+            child.setParent(null);
+        }
+        mChildren.clear();
+    }
+}
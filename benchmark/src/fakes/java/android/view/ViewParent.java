@@ -0,0 +1,7 @@
+package android.view;
+
+/**
+ * JVM fake of {@code android.view.ViewParent}
+ */
+public interface ViewParent {
+}
@@ -0,0 +1,59 @@
+package android.view;
+
+import android.animation.Animator;
+import android.animation.TimeInterpolator;
+import android.animation.ValueAnimator;
+
+/**
+ * JVM fake of {@code android.view.ViewPropertyAnimator}, there is no RenderThread, so target values are applied on start
+ */
+public class ViewPropertyAnimator {
+    private final View mView;
+    private float mTranslationX = Float.NaN;
+    private float mTranslationY = Float.NaN;
+    
+    ViewPropertyAnimator(View view) {
+        mView = view;
+    }
+    
+    public ViewPropertyAnimator translationX(float value) {
+        mTranslationX = value;
+        return this;
+    }
+    
+    public ViewPropertyAnimator translationY(float value) {
+        mTranslationY = value;
+        return this;
+    }
+    
+    public ViewPropertyAnimator setDuration(long duration) {
+        return this;
+    }
+    
+    public ViewPropertyAnimator setInterpolator(TimeInterpolator interpolator) {
+        return this;
+    }
+    
+    public ViewPropertyAnimator setListener(Animator.AnimatorListener listener) {
+        return this;
+    }
+    
+    public ViewPropertyAnimator setUpdateListener(ValueAnimator.AnimatorUpdateListener listener) {
+        return this;
+    }
+    
+    public void start() {
+        if (!Float.isNaN(mTranslationX)) {
+            mView.setTranslationX(mTranslationX);
+        }
+        if (!Float.isNaN(mTranslationY)) {
+            mView.setTranslationY(mTranslationY);
+        }
+        cancel();
+    }
+    
+    public void cancel() {
+        mTranslationX = Float.NaN;
+        mTranslationY = Float.NaN;
+    }
+}
@@ -0,0 +1,31 @@
+package android.view;
+
+import android.content.Context;
+
+/**
+ * JVM fake of {@code android.view.ViewStub}
+ */
+public final class ViewStub extends View {
+    private int mLayoutResource;
+    private int mInflatedId = NO_ID;
+    
+    public ViewStub(Context context) {
+        super(context);
+    }
+    
+    public int getLayoutResource() {
+        return mLayoutResource;
+    }
+    
+    public void setLayoutResource(int layoutResource) {
+        mLayoutResource = layoutResource;
+    }
+    
+    public int getInflatedId() {
+        return mInflatedId;
+    }
+    
+    public void setInflatedId(int inflatedId) {
+        mInflatedId = inflatedId;
+    }
+}
@@ -0,0 +1,39 @@
+package android.view;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JVM fake of {@code android.view.ViewTreeObserver}
+ */
+public final class ViewTreeObserver {
+    
+    public interface OnGlobalLayoutListener {
+        void onGlobalLayout();
+    }
+    
+    private final List<OnGlobalLayoutListener> mGlobalLayoutListeners = new ArrayList<>();
+    
+    public void addOnGlobalLayoutListener(OnGlobalLayoutListener listener) {
+        mGlobalLayoutListeners.add(listener);
+    }
+    
+    @Deprecated
+    public void removeGlobalOnLayoutListener(OnGlobalLayoutListener listener) {
+        removeOnGlobalLayoutListener(listener);
+    }
+    
+    public void removeOnGlobalLayoutListener(OnGlobalLayoutListener listener) {
+        mGlobalLayoutListeners.remove(listener);
+    }
+    
+    public boolean isAlive() {
+        return true;
+    }
+    
+    public void dispatchOnGlobalLayout() {
+        for (OnGlobalLayoutListener listener : new ArrayList<>(mGlobalLayoutListeners)) {
+            listener.onGlobalLayout();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package android.view;
+
+import android.os.Handler;
+
+/**
+ * JVM fake of {@code android.view.Window}
+ */
+public abstract class Window {
+    
+    public interface OnFrameMetricsAvailableListener {
+        void onFrameMetricsAvailable(Window window, FrameMetrics frameMetrics, int dropCountSinceLastInvocation);
+    }
+    
+    public void addOnFrameMetricsAvailableListener(OnFrameMetricsAvailableListener listener, Handler handler) {
+    }
+    
+    public void removeOnFrameMetricsAvailableListener(OnFrameMetricsAvailableListener listener) {
+    }
+}
@@ -0,0 +1,26 @@
+package android.view.animation;
+
+import android.animation.TimeInterpolator;
+
+/**
+ * JVM copy of {@code android.view.animation.DecelerateInterpolator}
+ */
+public class DecelerateInterpolator implements TimeInterpolator {
+    private final float mFactor;
+    
+    public DecelerateInterpolator() {
+        this(1);
+    }
+    
+    public DecelerateInterpolator(float factor) {
+        mFactor = factor;
+    }
+    
+    @Override
+    public float getInterpolation(float input) {
+        if (mFactor == 1) {
+            return 1 - (1 - input) * (1 - input);
+        }
+        return (float) (1 - Math.pow(1 - input, 2 * mFactor));
+    }
+}
@@ -0,0 +1,19 @@
+package android.view.inputmethod;
+
+import android.os.IBinder;
+import android.view.View;
+
+/**
+ * JVM fake of {@code android.view.inputmethod.InputMethodManager}
+ */
+public final class InputMethodManager {
+    public static final int HIDE_NOT_ALWAYS = 2;
+    
+    public boolean hideSoftInputFromWindow(IBinder windowToken, int flags) {
+        return false;
+    }
+    
+    public boolean showSoftInput(View view, int flags) {
+        return false;
+    }
+}
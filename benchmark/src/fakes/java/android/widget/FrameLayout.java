@@ -0,0 +1,52 @@
+package android.widget;
+
+import android.content.Context;
+import android.util.AttributeSet;
+import android.view.View;
+import android.view.ViewGroup;
+
+/**
+ * JVM fake of {@code android.widget.FrameLayout}
+ */
+public class FrameLayout extends ViewGroup {
+    
+    public FrameLayout(Context context) {
+        super(context);
+    }
+    
+    public FrameLayout(Context context, AttributeSet attrs) {
+        super(context);
+    }
+    
+    public FrameLayout(Context context, AttributeSet attrs, int defStyleAttr) {
+        super(context);
+    }
+    
+    public boolean onStartNestedScroll(View child, View target, int axes) {
+        return false;
+    }
+    
+    public void onNestedScrollAccepted(View child, View target, int axes) {
+    }
+    
+    public void onStopNestedScroll(View target) {
+    }
+    
+    public void onNestedScroll(View target, int dxConsumed, int dyConsumed, int dxUnconsumed, int dyUnconsumed) {
+    }
+    
+    public void onNestedPreScroll(View target, int dx, int dy, int[] consumed) {
+    }
+    
+    public boolean onNestedFling(View target, float velocityX, float velocityY, boolean consumed) {
+        return false;
+    }
+    
+    public boolean onNestedPreFling(View target, float velocityX, float velocityY) {
+        return false;
+    }
+    
+    public int getNestedScrollAxes() {
+        return 0;
+    }
+}
@@ -0,0 +1,11 @@
+package com.mancj.slideup;
+
+/**
+ * Replacement of the resources class generated for the library
+ */
+public final class R {
+    
+    public static final class bool {
+        public static final int is_right_to_left = 0x7f010000;
+    }
+}
@@ -0,0 +1,49 @@
+package com.mancj.slideup;
+
+import android.animation.ValueAnimator;
+import android.view.View;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Cost of one frame of {@link SlideUp#show()} / {@link SlideUp#hide()} animation
+ * driven by {@link AnimationProcessor}</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnimationFrameBenchmark {
+    private static final long FRAME_TIME = 16;
+    
+    @Param({"tween", "spring"})
+    String backend;
+    
+    private SlideUp mSlideUp;
+    private View mView;
+    
+    @Setup
+    public void setUp() {
+        mView = Fixtures.createSliderView();
+        mSlideUp = Fixtures.build(new SlideUpBuilder(mView)
+                .withStartState(SlideUp.State.SHOWED)
+                .withSpringAnimationEnabled("spring".equals(backend)));
+    }
+    
+    @Benchmark
+    public float frame() {
+        if (!mSlideUp.isAnimationRunning()) {
+            mSlideUp.toggle();
+        }
+        ValueAnimator.advanceAll(FRAME_TIME);
+        return mView.getTranslationY();
+    }
+}
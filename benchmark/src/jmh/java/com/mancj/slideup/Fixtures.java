@@ -0,0 +1,125 @@
+package com.mancj.slideup;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.util.DisplayMetrics;
+import android.view.Gravity;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.inputmethod.InputMethodManager;
+
+/**
+ * <p>Builds {@link SlideUp} over fake views of the phone screen size</p>
+ */
+final class Fixtures {
+    static final int SCREEN_WIDTH = 1080;
+    static final int SCREEN_HEIGHT = 1920;
+    
+    private Fixtures() {
+    }
+    
+    static View createSliderView() {
+        final Resources resources = new Resources(new DisplayMetrics());
+        final InputMethodManager inputMethodManager = new InputMethodManager();
+        View view = new View(new Context() {
+            @Override
+            public Resources getResources() {
+                return resources;
+            }
+            
+            @Override
+            public Object getSystemService(String name) {
+                return inputMethodManager;
+            }
+        });
+        view.layout(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
+        return view;
+    }
+    
+    /**
+     * <p>Builds SlideUp and runs the layout pass, so the touch consumers are created</p>
+     */
+    static SlideUp build(SlideUpBuilder builder) {
+        SlideUp slideUp = builder.build();
+        slideUp.getSliderView().getViewTreeObserver().dispatchOnGlobalLayout();
+        return slideUp;
+    }
+    
+    static int parseGravity(String gravity) {
+        switch (gravity) {
+            case "TOP":
+                return Gravity.TOP;
+            case "BOTTOM":
+                return Gravity.BOTTOM;
+            case "START":
+                return Gravity.START;
+            case "END":
+                return Gravity.END;
+            default:
+                throw new IllegalArgumentException("Unknown gravity " + gravity);
+        }
+    }
+    
+    /**
+     * <p>Creates touch events of the drag which starts inside of touchable area
+     * and moves towards the hidden position and back</p>
+     *
+     * @return ACTION_DOWN event, then {@code moves} of ACTION_MOVE events and ACTION_UP event
+     */
+    static MotionEvent[] createDrag(int gravity, int moves, float distance) {
+        return createGesture(gravity, moves, distance, true);
+    }
+    
+    /**
+     * <p>Creates touch events of the swipe which starts inside of touchable area
+     * and moves towards the hidden position</p>
+     *
+     * @return ACTION_DOWN event, then {@code moves} of ACTION_MOVE events and ACTION_UP event
+     */
+    static MotionEvent[] createSwipe(int gravity, int moves, float distance) {
+        return createGesture(gravity, moves, distance, false);
+    }
+    
+    private static MotionEvent[] createGesture(int gravity, int moves, float distance, boolean returnBack) {
+        float startX;
+        float startY;
+        float dx = 0;
+        float dy = 0;
+        switch (gravity) {
+            case Gravity.TOP:
+                startX = SCREEN_WIDTH / 2;
+                startY = SCREEN_HEIGHT - 10;
+                dy = -1;
+                break;
+            case Gravity.BOTTOM:
+                startX = SCREEN_WIDTH / 2;
+                startY = 10;
+                dy = 1;
+                break;
+            case Gravity.START:
+                startX = 10;
+                startY = SCREEN_HEIGHT / 2;
+                dx = -1;
+                break;
+            default:
+                startX = 10;
+                startY = SCREEN_HEIGHT / 2;
+                dx = 1;
+                break;
+        }
+        MotionEvent[] events = new MotionEvent[moves + 2];
+        long time = 0;
+        events[0] = MotionEvent.obtain(0, time, MotionEvent.ACTION_DOWN, startX, startY, 0);
+        float offset = 0;
+        for (int i = 1; i <= moves; i++) {
+            time += 8;
+            offset = returnBack
+                    ? distance * (1 - Math.abs(2f * i / moves - 1))
+                    : distance * i / moves;
+            events[i] = MotionEvent.obtain(0, time, MotionEvent.ACTION_MOVE, startX + dx * offset, startY + dy * offset, 0);
+        }
+        time += 8;
+        events[moves + 1] = MotionEvent.obtain(0, time, MotionEvent.ACTION_UP, startX + dx * offset, startY + dy * offset, 0);
+        return events;
+    }
+}
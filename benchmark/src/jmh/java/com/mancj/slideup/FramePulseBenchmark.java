@@ -0,0 +1,66 @@
+package com.mancj.slideup;
+
+import android.animation.ValueAnimator;
+import android.view.Choreographer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Cost of one frame when several sliders are animated at once,
+ * either by shared {@link FramePulse} or by own animator of every slider</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FramePulseBenchmark {
+    private static final long FRAME_TIME = 16;
+    
+    @Param({"1", "4", "16"})
+    int panels;
+    
+    @Param({"pulse", "animator"})
+    String driver;
+    
+    private SlideUp[] mSlideUps;
+    private boolean mPulse;
+    private long mFrameTimeNanos;
+    
+    @Setup
+    public void setUp() {
+        mPulse = "pulse".equals(driver);
+        FramePulse pulse = mPulse ? new FramePulse() : null;
+        mSlideUps = new SlideUp[panels];
+        for (int i = 0; i < panels; i++) {
+            mSlideUps[i] = Fixtures.build(new SlideUpBuilder(Fixtures.createSliderView())
+                    .withStartState(SlideUp.State.SHOWED)
+                    .withFramePulse(pulse));
+        }
+    }
+    
+    @Benchmark
+    public int frame() {
+        int running = 0;
+        for (SlideUp slideUp : mSlideUps) {
+            if (!slideUp.isAnimationRunning()) {
+                slideUp.toggle();
+            }
+            running++;
+        }
+        if (mPulse) {
+            mFrameTimeNanos += TimeUnit.MILLISECONDS.toNanos(FRAME_TIME);
+            Choreographer.getInstance().doFrame(mFrameTimeNanos);
+        } else {
+            ValueAnimator.advanceAll(FRAME_TIME);
+        }
+        return running;
+    }
+}
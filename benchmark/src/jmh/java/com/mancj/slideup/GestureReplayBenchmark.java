@@ -0,0 +1,66 @@
+package com.mancj.slideup;
+
+import android.animation.ValueAnimator;
+import android.view.Gravity;
+import android.view.MotionEvent;
+import android.view.View;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Replays the swipe which hides the slider through {@link SlideUp#onTouch(View, MotionEvent)}
+ * with the settle animation till the end</p>
+ *
+ * <p>Notifications and final state of gestures are checked by {@code GestureReplayTest},
+ * allocations are measured with {@code -prof gc}</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GestureReplayBenchmark {
+    private static final int MOVES = 32;
+    private static final long FRAME_TIME = 16;
+    private static final int MAX_FRAMES = 1000;
+    
+    @Param({"TOP", "BOTTOM", "START", "END"})
+    String gravity;
+    
+    private SlideUp mSlideUp;
+    private View mView;
+    private MotionEvent[] mSwipe;
+    
+    @Setup
+    public void setUp() {
+        int startGravity = Fixtures.parseGravity(gravity);
+        mView = Fixtures.createSliderView();
+        mSlideUp = Fixtures.build(new SlideUpBuilder(mView)
+                .withStartGravity(startGravity)
+                .withStartState(SlideUp.State.SHOWED));
+        float size = startGravity == Gravity.TOP || startGravity == Gravity.BOTTOM
+                ? Fixtures.SCREEN_HEIGHT : Fixtures.SCREEN_WIDTH;
+        mSwipe = Fixtures.createSwipe(startGravity, MOVES, size * 0.6f);
+    }
+    
+    @Benchmark
+    public boolean swipeToHide() {
+        mSlideUp.showImmediately();
+        for (MotionEvent event : mSwipe) {
+            mSlideUp.onTouch(mView, event);
+        }
+        int frames = 0;
+        while (mSlideUp.isAnimationRunning() && frames < MAX_FRAMES) {
+            ValueAnimator.advanceAll(FRAME_TIME);
+            frames++;
+        }
+        return mSlideUp.isVisible();
+    }
+}
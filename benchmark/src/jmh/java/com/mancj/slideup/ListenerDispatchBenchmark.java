@@ -0,0 +1,54 @@
+package com.mancj.slideup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Cost of {@link SlideUp#notifyPercentChanged(float)} with N listeners, called on every frame of slide</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ListenerDispatchBenchmark {
+    
+    @Param({"1", "10", "50"})
+    int listeners;
+    
+    private SlideUp mSlideUp;
+    private float mSink;
+    private int mFrame;
+    
+    @Setup
+    public void setUp() {
+        SlideUpBuilder builder = new SlideUpBuilder(Fixtures.createSliderView())
+                .withStartState(SlideUp.State.SHOWED);
+        for (int i = 0; i < listeners; i++) {
+            builder.withListeners(new SlideUp.Listener.Events() {
+                @Override
+                public void onSlide(float percent) {
+                    mSink += percent;
+                }
+                
+                @Override
+                public void onVisibilityChanged(int visibility) {
+                    mSink += visibility;
+                }
+            });
+        }
+        mSlideUp = Fixtures.build(builder);
+    }
+    
+    @Benchmark
+    public float notifyPercentChanged() {
+        mSlideUp.notifyPercentChanged(mFrame++ % 98 + 1);
+        return mSink;
+    }
+}
@@ -0,0 +1,89 @@
+package com.mancj.slideup;
+
+import android.view.View;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Cost of {@link SlideUp#notifyPercentChanged(float)} which maps the percent onto N properties of other views,
+ * either by bindings of {@link SlideUpBuilder#withBinding(View, int, float[], float[])}
+ * or by listeners which do the same mapping</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PropertyBindingBenchmark {
+    private static final float[] PERCENTS = {0, 50, 100};
+    private static final float[] VALUES = {1, 0.8f, 0};
+    
+    @Param({"1", "10", "50"})
+    int properties;
+    
+    @Param({"binding", "listener"})
+    String mapping;
+    
+    private SlideUp mSlideUp;
+    private int mFrame;
+    
+    @Setup
+    public void setUp() {
+        SlideUpBuilder builder = new SlideUpBuilder(Fixtures.createSliderView())
+                .withStartState(SlideUp.State.SHOWED);
+        for (int i = 0; i < properties; i++) {
+            final View target = Fixtures.createSliderView();
+            if ("binding".equals(mapping)) {
+                builder.withBinding(target, SlideUp.PROPERTY_ALPHA, PERCENTS, VALUES);
+            } else {
+                builder.withListeners(new KeyframeListener(target, PERCENTS.clone(), VALUES.clone()));
+            }
+        }
+        mSlideUp = Fixtures.build(builder);
+    }
+    
+    @Benchmark
+    public float notifyPercentChanged() {
+        mSlideUp.notifyPercentChanged(mFrame++ % 98 + 1);
+        return mSlideUp.getSliderView().getAlpha();
+    }
+    
+    /**
+     * <p>Listener which does the same keyframed mapping as the binding, with its own keyframes</p>
+     */
+    private static final class KeyframeListener implements SlideUp.Listener.Slide {
+        private final View mTarget;
+        private final float[] mPercents;
+        private final float[] mValues;
+        
+        KeyframeListener(View target, float[] percents, float[] values) {
+            mTarget = target;
+            mPercents = percents;
+            mValues = values;
+        }
+        
+        @Override
+        public void onSlide(float percent) {
+            int last = mPercents.length - 1;
+            if (percent <= mPercents[0]) {
+                mTarget.setAlpha(mValues[0]);
+            } else if (percent >= mPercents[last]) {
+                mTarget.setAlpha(mValues[last]);
+            } else {
+                int key = 0;
+                while (percent > mPercents[key + 1]) {
+                    key++;
+                }
+                float fraction = (percent - mPercents[key]) / (mPercents[key + 1] - mPercents[key]);
+                mTarget.setAlpha(mValues[key] + (mValues[key + 1] - mValues[key]) * fraction);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.mancj.slideup;
+
+import android.view.MotionEvent;
+import android.view.View;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Cost of touch events passed through {@link SlideUp#onTouch(View, MotionEvent)} to the touch consumers</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TouchConsumerBenchmark {
+    private static final int MOVES = 64;
+    
+    @Param({"TOP", "BOTTOM", "START", "END"})
+    String gravity;
+    
+    private SlideUp mSlideUp;
+    private View mView;
+    private MotionEvent[] mDrag;
+    private int mMove;
+    
+    @Setup
+    public void setUp() {
+        int startGravity = Fixtures.parseGravity(gravity);
+        mView = Fixtures.createSliderView();
+        mSlideUp = Fixtures.build(new SlideUpBuilder(mView)
+                .withStartGravity(startGravity)
+                .withStartState(SlideUp.State.SHOWED));
+        mDrag = Fixtures.createDrag(startGravity, MOVES, 500);
+        mSlideUp.onTouch(mView, mDrag[0]);
+    }
+    
+    /**
+     * <p>Single ACTION_MOVE of the endless drag</p>
+     */
+    @Benchmark
+    public float move() {
+        mMove = mMove % MOVES + 1;
+        mSlideUp.onTouch(mView, mDrag[mMove]);
+        return mView.getTranslationX() + mView.getTranslationY();
+    }
+}
@@ -0,0 +1,246 @@
+package com.mancj.slideup;
+
+import android.animation.ValueAnimator;
+import android.content.Context;
+import android.view.Gravity;
+import android.view.MotionEvent;
+import android.view.View;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * <p>Replays show, hide and fling gestures through {@link SlideUp#onTouch(View, MotionEvent)} for every gravity
+ * and runs the settle animation till the end</p>
+ *
+ * <p>Every gesture must notify {@code onSlide} once per move and once per animation frame, change visibility
+ * of the slider with a single {@code setVisibility} call and stop in the expected state</p>
+ *
+ * <p>Allocations of the replay are checked per touch event and animation frame
+ * when JVM can measure allocations of the thread</p>
+ */
+@RunWith(Parameterized.class)
+public class GestureReplayTest {
+    private static final int MOVES = 32;
+    private static final long FRAME_TIME = 16;
+    private static final int MAX_FRAMES = 1000;
+    
+    /**
+     * Upper bound <b>(in bytes)</b> of allocations per touch event or animation frame
+     */
+    private static final long MAX_ALLOCATION_PER_EVENT = 64;
+    
+    /**
+     * Time between moves <b>(in ms)</b> of the slow drag, its velocity is below the minimal fling velocity
+     */
+    private static final long SLOW_MOVE_TIME = 1000;
+    
+    /**
+     * Time between moves <b>(in ms)</b> of the fling
+     */
+    private static final long FAST_MOVE_TIME = 4;
+    
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> gravities() {
+        return Arrays.asList(new Object[][]{{"TOP"}, {"BOTTOM"}, {"START"}, {"END"}});
+    }
+    
+    private final int mGravity;
+    private CountingView mView;
+    private View mOtherView;
+    private int mSlideCount;
+    private int mVisibilityCount;
+    private int mFrames;
+    
+    public GestureReplayTest(String gravity) {
+        mGravity = Fixtures.parseGravity(gravity);
+    }
+    
+    @Before
+    public void setUp() {
+        Context context = Fixtures.createSliderView().getContext();
+        mView = new CountingView(context);
+        mView.layout(0, 0, Fixtures.SCREEN_WIDTH, Fixtures.SCREEN_HEIGHT);
+        mOtherView = new View(context);
+        mOtherView.layout(0, 0, Fixtures.SCREEN_WIDTH, Fixtures.SCREEN_HEIGHT);
+    }
+    
+    @Test
+    public void replayDoesNotAllocate() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(allocationBean.isThreadAllocatedMemorySupported());
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+        // class loading and lazy initialization of the first gesture are not counted
+        replay(build(SlideUp.State.SHOWED), mView, createGesture(true, getSize() * 0.6f, SLOW_MOVE_TIME));
+        
+        SlideUp slideUp = build(SlideUp.State.HIDDEN);
+        MotionEvent[] gesture = createGesture(false, getSize() * 0.2f, FAST_MOVE_TIME);
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = allocationBean.getThreadAllocatedBytes(threadId);
+        replay(slideUp, mOtherView, gesture);
+        long allocation = (allocationBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / (gesture.length + mFrames);
+        
+        assertTrue(allocation + " bytes allocated per event, expected <= " + MAX_ALLOCATION_PER_EVENT,
+                allocation <= MAX_ALLOCATION_PER_EVENT);
+    }
+    
+    @Test
+    public void slowDragHides() {
+        SlideUp slideUp = build(SlideUp.State.SHOWED);
+        replay(slideUp, mView, createGesture(true, getSize() * 0.6f, SLOW_MOVE_TIME));
+        
+        assertEquals(SlideUp.State.HIDDEN, slideUp.getState());
+        assertEquals(View.GONE, mView.getVisibility());
+        assertCounts();
+    }
+    
+    @Test
+    public void slowDragShows() {
+        SlideUp slideUp = build(SlideUp.State.HIDDEN);
+        replay(slideUp, mOtherView, createGesture(false, getSize() * 0.6f, SLOW_MOVE_TIME));
+        
+        assertEquals(SlideUp.State.SHOWED, slideUp.getState());
+        assertEquals(View.VISIBLE, mView.getVisibility());
+        assertCounts();
+    }
+    
+    @Test
+    public void flingHides() {
+        SlideUp slideUp = build(SlideUp.State.SHOWED);
+        replay(slideUp, mView, createGesture(true, getSize() * 0.2f, FAST_MOVE_TIME));
+        
+        assertEquals(SlideUp.State.HIDDEN, slideUp.getState());
+        assertEquals(View.GONE, mView.getVisibility());
+        assertCounts();
+    }
+    
+    @Test
+    public void flingShows() {
+        SlideUp slideUp = build(SlideUp.State.HIDDEN);
+        replay(slideUp, mOtherView, createGesture(false, getSize() * 0.2f, FAST_MOVE_TIME));
+        
+        assertEquals(SlideUp.State.SHOWED, slideUp.getState());
+        assertEquals(View.VISIBLE, mView.getVisibility());
+        assertCounts();
+    }
+    
+    private SlideUp build(SlideUp.State startState) {
+        SlideUp slideUp = Fixtures.build(new SlideUpBuilder(mView)
+                .withStartGravity(mGravity)
+                .withStartState(startState)
+                .withSlideFromOtherView(mOtherView)
+                .withListeners(new SlideUp.Listener.Events() {
+                    @Override
+                    public void onSlide(float percent) {
+                        mSlideCount++;
+                    }
+                    
+                    @Override
+                    public void onVisibilityChanged(int visibility) {
+                        mVisibilityCount++;
+                    }
+                }));
+        // counts only what the gesture causes
+        mView.mVisibilityChanges = 0;
+        mSlideCount = 0;
+        mVisibilityCount = 0;
+        return slideUp;
+    }
+    
+    private void replay(SlideUp slideUp, View touchedView, MotionEvent[] gesture) {
+        for (MotionEvent event : gesture) {
+            slideUp.onTouch(touchedView, event);
+        }
+        assertEquals("onSlide calls of the drag", MOVES, mSlideCount);
+        assertTrue("settle animation isn't started", slideUp.isAnimationRunning());
+        mFrames = 0;
+        while (slideUp.isAnimationRunning() && mFrames < MAX_FRAMES) {
+            ValueAnimator.advanceAll(FRAME_TIME);
+            mFrames++;
+        }
+        assertFalse("animation isn't finished after " + mFrames + " frames", slideUp.isAnimationRunning());
+    }
+    
+    private void assertCounts() {
+        assertEquals("onSlide calls", MOVES + mFrames, mSlideCount);
+        assertEquals("setVisibility calls", 1, mView.mVisibilityChanges);
+        assertEquals("onVisibilityChanged calls", 1, mVisibilityCount);
+    }
+    
+    private float getSize() {
+        return mGravity == Gravity.TOP || mGravity == Gravity.BOTTOM ? Fixtures.SCREEN_HEIGHT : Fixtures.SCREEN_WIDTH;
+    }
+    
+    /**
+     * <p>Creates the straight gesture which starts inside of touchable area</p>
+     *
+     * @return ACTION_DOWN event, then {@link #MOVES} of ACTION_MOVE events and ACTION_UP event
+     */
+    private MotionEvent[] createGesture(boolean towardsHidden, float distance, long moveTime) {
+        float startX = Fixtures.SCREEN_WIDTH / 2;
+        float startY = Fixtures.SCREEN_HEIGHT / 2;
+        float dx = 0;
+        float dy = 0;
+        switch (mGravity) {
+            case Gravity.TOP:
+                startY = Fixtures.SCREEN_HEIGHT - 10;
+                dy = -1;
+                break;
+            case Gravity.BOTTOM:
+                startY = 10;
+                dy = 1;
+                break;
+            case Gravity.START:
+                startX = 10;
+                dx = -1;
+                break;
+            default:
+                startX = 10;
+                dx = 1;
+                break;
+        }
+        if (!towardsHidden) {
+            dx = -dx;
+            dy = -dy;
+        }
+        MotionEvent[] events = new MotionEvent[MOVES + 2];
+        long time = 0;
+        events[0] = MotionEvent.obtain(0, time, MotionEvent.ACTION_DOWN, startX, startY, 0);
+        float offset = 0;
+        for (int i = 1; i <= MOVES; i++) {
+            time += moveTime;
+            offset = distance * i / MOVES;
+            events[i] = MotionEvent.obtain(0, time, MotionEvent.ACTION_MOVE, startX + dx * offset, startY + dy * offset, 0);
+        }
+        events[MOVES + 1] = MotionEvent.obtain(0, time, MotionEvent.ACTION_UP, startX + dx * offset, startY + dy * offset, 0);
+        return events;
+    }
+    
+    private static class CountingView extends View {
+        int mVisibilityChanges;
+        
+        CountingView(Context context) {
+            super(context);
+        }
+        
+        @Override
+        public void setVisibility(int visibility) {
+            mVisibilityChanges++;
+            super.setVisibility(visibility);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.mancj.slideup;
+
+import java.util.Arrays;
+
+/**
+ * <p>Anchors where slider can stop between {@link SlideUp.State#SHOWED} and {@link SlideUp.State#HIDDEN} states</p>
+ *
+ * <p>Anchors are kept in the animation space of slider: <b>0</b> is showed, <b>size</b> of slider is hidden.
+ * Sorted positions are rebuilt only when size of slider is changed, so release of the gesture
+ * resolves the final position by binary search without allocations</p>
+ */
+class Anchors {
+    /**
+     * Time (in seconds) for which the release velocity is projected forward
+     */
+    private static final float PROJECTION_TIME = 0.2f;
+    
+    private float[] mAnchorsPx = new float[0];
+    private float[] mAnchorFractions = new float[0];
+    
+    private float mSize = -1;
+    private float[] mPositions = new float[]{0, 0};
+    
+    void setAnchorsPx(float[] anchors) {
+        mAnchorsPx = anchors.clone();
+        mSize = -1;
+    }
+    
+    void setAnchorFractions(float[] fractions) {
+        mAnchorFractions = fractions.clone();
+        mSize = -1;
+    }
+    
+    /**
+     * <p>Rebuilds sorted positions for the new size of slider, does nothing if size is not changed</p>
+     */
+    void layout(float size) {
+        if (size == mSize) {
+            return;
+        }
+        mSize = size;
+        float[] positions = new float[mAnchorsPx.length + mAnchorFractions.length + 2];
+        int count = 0;
+        positions[count++] = 0;
+        positions[count++] = size;
+        for (float anchor : mAnchorsPx) {
+            float position = size - anchor;
+            if (position > 0 && position < size) {
+                positions[count++] = position;
+            }
+        }
+        for (float fraction : mAnchorFractions) {
+            positions[count++] = size * (1 - fraction);
+        }
+        Arrays.sort(positions, 0, count);
+        int unique = 1;
+        for (int i = 1; i < count; i++) {
+            if (positions[i] != positions[unique - 1]) {
+                positions[unique++] = positions[i];
+            }
+        }
+        mPositions = Arrays.copyOf(positions, unique);
+    }
+    
+    /**
+     * <p>Returns count of anchors which fit into the current size of slider</p>
+     */
+    int getCount() {
+        return Math.max(mPositions.length - 2, 0);
+    }
+    
+    /**
+     * <p>Returns position of anchor, anchors are ordered from the smallest visible part of slider to the largest</p>
+     */
+    float getPosition(int index) {
+        if (index < 0 || index >= getCount()) {
+            throw new IndexOutOfBoundsException("Anchor " + index + " is out of " + getCount() + " anchors");
+        }
+        return mPositions[mPositions.length - 2 - index];
+    }
+    
+    /**
+     * <p>Returns index of anchor placed exactly at the given position or -1</p>
+     */
+    int indexOf(float position) {
+        int found = Arrays.binarySearch(mPositions, position);
+        if (found <= 0 || found >= mPositions.length - 1) {
+            return -1;
+        }
+        return mPositions.length - 2 - found;
+    }
+    
+    /**
+     * <p>Returns position where slider should settle after release of the gesture</p>
+     *
+     * @param position current position of slider
+     * @param velocity release velocity, positive towards the hidden state
+     * @param fling    true if velocity is high enough to count as a fling,
+     *                 then slider moves at least to the next position in the direction of the velocity
+     */
+    float findSettlePosition(float position, float velocity, boolean fling) {
+        float projected = position + velocity * PROJECTION_TIME;
+        int target = nearest(projected);
+        if (fling) {
+            int current = Arrays.binarySearch(mPositions, position);
+            if (velocity > 0 && mPositions[target] <= position) {
+                target = current >= 0 ? current + 1 : -current - 1;
+            } else if (velocity < 0 && mPositions[target] >= position) {
+                target = current >= 0 ? current - 1 : -current - 2;
+            }
+            target = Math.max(0, Math.min(target, mPositions.length - 1));
+        }
+        return mPositions[target];
+    }
+    
+    private int nearest(float projected) {
+        int found = Arrays.binarySearch(mPositions, projected);
+        if (found >= 0) {
+            return found;
+        }
+        int insertion = -found - 1;
+        if (insertion == 0) {
+            return 0;
+        }
+        if (insertion == mPositions.length) {
+            return mPositions.length - 1;
+        }
+        float before = projected - mPositions[insertion - 1];
+        float after = mPositions[insertion] - projected;
+        return before <= after ? insertion - 1 : insertion;
+    }
+}
@@ -0,0 +1,36 @@
+package com.mancj.slideup;
+
+/**
+ * <p>Source of the animated values used by {@link AnimationProcessor} to move the slider</p>
+ */
+interface AnimationBackend {
+    
+    /**
+     * <p>Starts animation, if animation is already running it should be continued to the new target</p>
+     *
+     * @param velocity initial velocity in the animated values space (in px/s)
+     */
+    void start(float from, float to, float velocity);
+    
+    /**
+     * <p>Jumps to the end value of running animation</p>
+     */
+    void end();
+    
+    /**
+     * <p>Stops running animation at the current value</p>
+     */
+    void cancel();
+    
+    boolean isRunning();
+    
+    /**
+     * <p>Called whenever duration or interpolator were changed in {@link SlideUpBuilder}</p>
+     */
+    void paramsChanged();
+    
+    /**
+     * <p>Stops running animation and drops references to the listeners, backend can't be used after that</p>
+     */
+    void release();
+}
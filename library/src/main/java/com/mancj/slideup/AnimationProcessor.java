@@ -1,30 +1,55 @@
 package com.mancj.slideup;
 
-import android.animation.Animator;
-import android.animation.ValueAnimator;
+import android.os.Build;
 
 /**
  * @author pa.gulko zTrap (12.07.2017)
  */
 class AnimationProcessor {
     private SlideUpBuilder mBuilder;
-    private ValueAnimator mValueAnimator;
+    private SlideUp mSlideUp;
+    private AnimationBackend mBackend;
+    private AnimationBackend mProgrammaticBackend;
+    private AnimationBackend mActiveBackend;
     private float mSlideAnimationTo;
     
-    AnimationProcessor(SlideUpBuilder builder, ValueAnimator.AnimatorUpdateListener updateListener, Animator.AnimatorListener listener){
+    AnimationProcessor(SlideUpBuilder builder, SlideUp slideUp){
         mBuilder = builder;
-        createAnimation(updateListener, listener);
+        mSlideUp = slideUp;
+        createAnimation(slideUp);
     }
     
     void endAnimation() {
-        if (mValueAnimator != null && mValueAnimator.getValues() != null && mValueAnimator.isRunning()) {
-            mValueAnimator.end();
+        if (mActiveBackend != null) {
+            mActiveBackend.end();
+        }
+    }
+    
+    /**
+     * <p>Stops running animation at the current position</p>
+     *
+     * @return true if animation was running
+     */
+    boolean cancelAnimation() {
+        if (isAnimationRunning()) {
+            mActiveBackend.cancel();
+            return true;
+        }
+        return false;
+    }
+    
+    void release() {
+        mBackend.release();
+        if (mProgrammaticBackend != mBackend) {
+            mProgrammaticBackend.release();
         }
     }
     
     void paramsChanged(){
-        mValueAnimator.setDuration(mBuilder.mAutoSlideDuration);
-        mValueAnimator.setInterpolator(mBuilder.mInterpolator);
+        mBackend.paramsChanged();
+        if (mProgrammaticBackend != mBackend) {
+            mProgrammaticBackend.paramsChanged();
+        }
     }
     
     float getSlideAnimationTo() {
@@ -32,20 +57,60 @@ class AnimationProcessor {
     }
     
     boolean isAnimationRunning(){
-        return mValueAnimator != null && mValueAnimator.isRunning();
+        return mActiveBackend != null && mActiveBackend.isRunning();
     }
     
+    /**
+     * <p>Starts programmatic animation of {@link SlideUp#show()}, {@link SlideUp#hide()} or {@link SlideUp#anchor(int)},
+     * it runs on RenderThread if enabled by {@link SlideUpBuilder#withRenderThreadAnimationEnabled(boolean)}</p>
+     */
     void setValuesAndStart(float from, float to){
+        start(mProgrammaticBackend, from, to, 0);
+    }
+    
+    /**
+     * <p>Starts animation which continues the gesture</p>
+     *
+     * @param velocity initial velocity in the animated values space (in px/s)
+     */
+    void setValuesAndStart(float from, float to, float velocity){
+        start(mBackend, from, to, velocity);
+    }
+    
+    /**
+     * <p>Continues running animation from the current position to the new target, e.g. when size of slider was changed</p>
+     */
+    void retarget(float from, float to) {
+        if (isAnimationRunning()) {
+            mSlideAnimationTo = to;
+            mActiveBackend.start(from, to, 0);
+        }
+    }
+    
+    private void start(AnimationBackend backend, float from, float to, float velocity) {
+        if (mActiveBackend != backend && isAnimationRunning()) {
+            mActiveBackend.cancel();
+            // cancelled backend leaves the slider at its current position, which may differ from the one seen by caller
+            from = mSlideUp.getSlidePosition();
+        }
+        mActiveBackend = backend;
         mSlideAnimationTo = to;
-        mValueAnimator.setFloatValues(from, to);
-        mValueAnimator.start();
+        backend.start(from, to, velocity);
     }
     
-    private void createAnimation(ValueAnimator.AnimatorUpdateListener updateListener, Animator.AnimatorListener listener){
-        mValueAnimator = ValueAnimator.ofFloat();
-        mValueAnimator.setDuration(mBuilder.mAutoSlideDuration);
-        mValueAnimator.setInterpolator(mBuilder.mInterpolator);
-        mValueAnimator.addUpdateListener(updateListener);
-        mValueAnimator.addListener(listener);
+    private void createAnimation(SlideUp slideUp){
+        if (mBuilder.mFramePulse != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            mBackend = new PulseAnimationBackend(mBuilder, slideUp, mBuilder.mFramePulse);
+        } else if (mBuilder.mSpringAnimation) {
+            mBackend = new SpringAnimationBackend(mBuilder, slideUp, slideUp);
+        } else {
+            mBackend = new TweenAnimationBackend(mBuilder, slideUp, slideUp);
+        }
+        if (mBuilder.mRenderThreadAnimation && Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            mProgrammaticBackend = new RenderThreadAnimationBackend(mBuilder, slideUp);
+        } else {
+            mProgrammaticBackend = mBackend;
+        }
+        mActiveBackend = mBackend;
     }
 }
@@ -0,0 +1,44 @@
+package com.mancj.slideup;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.Choreographer;
+
+/**
+ * <p>Postpones applying of the drag position to the next frame,
+ * so only the latest touch position of the frame is applied</p>
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+class DragFrameScheduler implements Choreographer.FrameCallback {
+    private final TouchConsumer mConsumer;
+    private boolean mPosted;
+    
+    DragFrameScheduler(TouchConsumer consumer) {
+        mConsumer = consumer;
+    }
+    
+    void schedule() {
+        if (!mPosted) {
+            mPosted = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+    
+    /**
+     * @return true if frame was scheduled
+     */
+    boolean cancel() {
+        if (mPosted) {
+            mPosted = false;
+            Choreographer.getInstance().removeFrameCallback(this);
+            return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        mPosted = false;
+        mConsumer.applyPendingDrag();
+    }
+}
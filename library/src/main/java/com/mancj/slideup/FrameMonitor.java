@@ -0,0 +1,267 @@
+package com.mancj.slideup;
+
+import android.annotation.TargetApi;
+import android.app.Activity;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+import android.view.Display;
+import android.view.FrameMetrics;
+import android.view.View;
+import android.view.Window;
+
+import java.util.Arrays;
+
+/**
+ * <p>Measures frames of every drag and animation of {@link SlideUp} and reports them as {@link FrameStats}</p>
+ *
+ * <p>Dropped frames are counted from intervals between {@link Choreographer} frames,
+ * frame times are taken from {@link FrameMetrics#TOTAL_DURATION} when slider is hosted by {@link Activity}
+ * on {@link Build.VERSION_CODES#N} and above, otherwise from the same intervals</p>
+ *
+ * <p>FrameMetrics are delivered asynchronously, so the listener stays registered for the lifetime of the monitor
+ * and stats are reported after metrics of the last frame of the gesture arrive. Frames are matched to the gesture
+ * by vsync timestamp since {@link Build.VERSION_CODES#O}, before it by count of frames</p>
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+class FrameMonitor implements Choreographer.FrameCallback {
+    private static final float DEFAULT_FRAME_INTERVAL = 1000f / 60;
+    
+    /**
+     * Time <b>(in ms)</b> to wait for metrics of the last frames, frame may not be drawn at all
+     */
+    private static final long METRICS_TIMEOUT = 100;
+    
+    private final SlideUp mSlideUp;
+    private final View mView;
+    private final FrameStats.Listener mListener;
+    private MetricsRecorder mMetricsRecorder;
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final Runnable mReport = new Runnable() {
+        @Override
+        public void run() {
+            report();
+        }
+    };
+    
+    private boolean mActive;
+    private boolean mWaitingMetrics;
+    private boolean mTouching;
+    private int mGesture;
+    private long mStartTime;
+    private long mLastFrameTime;
+    private long mDuration;
+    private int mFrameCount;
+    private int mMetricsCount;
+    private int mDroppedFrames;
+    private float mFrameInterval;
+    private float[] mIntervals = new float[128];
+    private int mIntervalCount;
+    
+    private FrameStats mLastStats;
+    
+    FrameMonitor(SlideUp slideUp, View view, FrameStats.Listener listener) {
+        mSlideUp = slideUp;
+        mView = view;
+        mListener = listener;
+    }
+    
+    FrameStats getLastStats() {
+        return mLastStats;
+    }
+    
+    void onTouchDown() {
+        mTouching = true;
+        if (mActive) {
+            finish();
+        }
+        begin(FrameStats.GESTURE_DRAG);
+    }
+    
+    void onTouchUp(boolean animationRunning) {
+        mTouching = false;
+        if (!animationRunning) {
+            finish();
+        }
+    }
+    
+    void onAnimationStart() {
+        if (!mActive) {
+            begin(FrameStats.GESTURE_ANIMATION);
+        }
+    }
+    
+    void onAnimationEnd() {
+        if (!mTouching) {
+            finish();
+        }
+    }
+    
+    /**
+     * <p>Drops the current gesture and unregisters the metrics listener, called when SlideUp is released</p>
+     */
+    void stop() {
+        if (mActive) {
+            mActive = false;
+            Choreographer.getInstance().removeFrameCallback(this);
+        }
+        mWaitingMetrics = false;
+        mHandler.removeCallbacks(mReport);
+        if (mMetricsRecorder != null) {
+            mMetricsRecorder.stop();
+        }
+    }
+    
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!mActive) {
+            return;
+        }
+        mFrameCount++;
+        if (mLastFrameTime != 0) {
+            float interval = (frameTimeNanos - mLastFrameTime) / 1000000f;
+            int skipped = Math.round(interval / mFrameInterval) - 1;
+            if (skipped > 0) {
+                mDroppedFrames += skipped;
+            }
+            if (mMetricsRecorder == null) {
+                addFrameTime(interval);
+            }
+        }
+        mLastFrameTime = frameTimeNanos;
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+    
+    private void begin(int gesture) {
+        if (mWaitingMetrics) {
+            report();
+        }
+        mActive = true;
+        mGesture = gesture;
+        mStartTime = System.nanoTime();
+        mLastFrameTime = 0;
+        mFrameCount = 0;
+        mMetricsCount = 0;
+        mDroppedFrames = 0;
+        mIntervalCount = 0;
+        mFrameInterval = getFrameInterval();
+        Choreographer.getInstance().postFrameCallback(this);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+            if (mMetricsRecorder == null) {
+                Activity activity = Internal.findActivity(mView.getContext());
+                if (activity != null) {
+                    mMetricsRecorder = new MetricsRecorder(this, activity.getWindow());
+                }
+            }
+            if (mMetricsRecorder != null) {
+                mMetricsRecorder.start();
+            }
+        }
+    }
+    
+    private void finish() {
+        if (!mActive) {
+            return;
+        }
+        mDuration = (System.nanoTime() - mStartTime) / 1000000;
+        mActive = false;
+        Choreographer.getInstance().removeFrameCallback(this);
+        if (mMetricsRecorder != null && mMetricsCount < mFrameCount) {
+            // metrics of the last frames are not delivered yet
+            mWaitingMetrics = true;
+            mHandler.postDelayed(mReport, METRICS_TIMEOUT);
+            return;
+        }
+        report();
+    }
+    
+    private void onFrameMetrics(FrameMetrics frameMetrics) {
+        if (!mActive && !mWaitingMetrics) {
+            return;
+        }
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            long vsyncTime = frameMetrics.getMetric(FrameMetrics.INTENDED_VSYNC_TIMESTAMP);
+            if (vsyncTime < mStartTime) {
+                // late metrics of the frame drawn before the gesture
+                return;
+            }
+            if (mWaitingMetrics && vsyncTime > mLastFrameTime) {
+                // the frame is drawn after the gesture, so all its frames are already received
+                report();
+                return;
+            }
+        }
+        mMetricsCount++;
+        addFrameTime(frameMetrics.getMetric(FrameMetrics.TOTAL_DURATION) / 1000000f);
+        if (mWaitingMetrics && mMetricsCount >= mFrameCount) {
+            report();
+        }
+    }
+    
+    private void report() {
+        mWaitingMetrics = false;
+        mHandler.removeCallbacks(mReport);
+        if (mIntervalCount == 0) {
+            return;
+        }
+        float[] frameTimes = Arrays.copyOf(mIntervals, mIntervalCount);
+        mIntervalCount = 0;
+        Arrays.sort(frameTimes);
+        mLastStats = new FrameStats(mGesture, mDuration, mDroppedFrames, frameTimes);
+        if (mListener != null) {
+            mListener.onFrameStats(mSlideUp, mLastStats);
+        }
+    }
+    
+    private void addFrameTime(float frameTime) {
+        if (mIntervalCount == mIntervals.length) {
+            mIntervals = Arrays.copyOf(mIntervals, mIntervals.length * 2);
+        }
+        mIntervals[mIntervalCount++] = frameTime;
+    }
+    
+    private float getFrameInterval() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
+            Display display = mView.getDisplay();
+            if (display != null && display.getRefreshRate() > 0) {
+                return 1000f / display.getRefreshRate();
+            }
+        }
+        return DEFAULT_FRAME_INTERVAL;
+    }
+    
+    @TargetApi(Build.VERSION_CODES.N)
+    private static class MetricsRecorder implements Window.OnFrameMetricsAvailableListener {
+        private final FrameMonitor mMonitor;
+        private final Window mWindow;
+        private final Handler mHandler = new Handler(Looper.getMainLooper());
+        private boolean mRegistered;
+        
+        MetricsRecorder(FrameMonitor monitor, Window window) {
+            mMonitor = monitor;
+            mWindow = window;
+        }
+        
+        void start() {
+            if (!mRegistered) {
+                mRegistered = true;
+                mWindow.addOnFrameMetricsAvailableListener(this, mHandler);
+            }
+        }
+        
+        void stop() {
+            if (mRegistered) {
+                mRegistered = false;
+                mWindow.removeOnFrameMetricsAvailableListener(this);
+            }
+        }
+        
+        @Override
+        public void onFrameMetricsAvailable(Window window, FrameMetrics frameMetrics, int dropCountSinceLastInvocation) {
+            if (mRegistered) {
+                mMonitor.onFrameMetrics(frameMetrics);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.mancj.slideup;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.Choreographer;
+
+/**
+ * <p>Drives animations of any number of {@link SlideUp} from one {@link Choreographer} callback per frame,
+ * all running animations are updated in one pass. Pass the same instance to
+ * {@link SlideUpBuilder#withFramePulse(FramePulse)} of every slider on the screen</p>
+ *
+ * <p>Cost of the frame depends only on the count of running animations, idle sliders are not visited.
+ * Must be used from the main thread only</p>
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+public final class FramePulse implements Choreographer.FrameCallback {
+    private PulseAnimationBackend[] mBackends = new PulseAnimationBackend[4];
+    private int mCount;
+    private boolean mPosted;
+    
+    /**
+     * <p>Returns count of animations which will be updated on the next frame</p>
+     */
+    public int getActiveCount() {
+        return mCount;
+    }
+    
+    void add(PulseAnimationBackend backend) {
+        if (backend.mRegistered) {
+            return;
+        }
+        backend.mRegistered = true;
+        if (mCount == mBackends.length) {
+            PulseAnimationBackend[] backends = new PulseAnimationBackend[mCount * 2];
+            System.arraycopy(mBackends, 0, backends, 0, mCount);
+            mBackends = backends;
+        }
+        mBackends[mCount++] = backend;
+        if (!mPosted) {
+            mPosted = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+    
+    /**
+     * <p>Called by {@link Choreographer}, updates all running animations</p>
+     */
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        mPosted = false;
+        int count = mCount;
+        int alive = 0;
+        for (int i = 0; i < count; i++) {
+            PulseAnimationBackend backend = mBackends[i];
+            if (backend.isRunning() && backend.doFrame(frameTimeNanos)) {
+                mBackends[alive++] = backend;
+            } else {
+                backend.mRegistered = false;
+            }
+        }
+        // animations started by listeners during this frame were appended after the visited ones
+        for (int i = count; i < mCount; i++) {
+            mBackends[alive++] = mBackends[i];
+        }
+        for (int i = alive; i < mCount; i++) {
+            mBackends[i] = null;
+        }
+        mCount = alive;
+        if (mCount > 0 && !mPosted) {
+            mPosted = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.mancj.slideup;
+
+import android.support.annotation.IntDef;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Locale;
+
+/**
+ * <p>Frame timing of one gesture of {@link SlideUp}: a drag with its settle animation
+ * or an animation started by {@link SlideUp#show()} or {@link SlideUp#hide()}</p>
+ */
+public final class FrameStats {
+    
+    /**
+     * <p>Drag of the slider by finger including the animation after release</p>
+     */
+    public static final int GESTURE_DRAG = 0;
+    
+    /**
+     * <p>Animation started not by finger</p>
+     */
+    public static final int GESTURE_ANIMATION = 1;
+    
+    @IntDef(value = {GESTURE_DRAG, GESTURE_ANIMATION})
+    @Retention(RetentionPolicy.SOURCE)
+    @interface Gesture {
+    }
+    
+    /**
+     * <p>Interface to receive frame timing of every finished gesture</p>
+     */
+    public interface Listener {
+        
+        void onFrameStats(SlideUp slideUp, FrameStats stats);
+    }
+    
+    private final int mGesture;
+    private final long mDuration;
+    private final int mFrameCount;
+    private final int mDroppedFrames;
+    private final float mFrameTimeP50;
+    private final float mFrameTimeP95;
+    private final float mFrameTimeP99;
+    private final float mWorstFrameTime;
+    
+    FrameStats(@Gesture int gesture, long duration, int droppedFrames, float[] sortedFrameTimes) {
+        mGesture = gesture;
+        mDuration = duration;
+        mDroppedFrames = droppedFrames;
+        mFrameCount = sortedFrameTimes.length;
+        mFrameTimeP50 = percentile(sortedFrameTimes, 50);
+        mFrameTimeP95 = percentile(sortedFrameTimes, 95);
+        mFrameTimeP99 = percentile(sortedFrameTimes, 99);
+        mWorstFrameTime = mFrameCount == 0 ? 0 : sortedFrameTimes[mFrameCount - 1];
+    }
+    
+    /**
+     * <p>Returns type of gesture, {@link #GESTURE_DRAG} or {@link #GESTURE_ANIMATION}</p>
+     */
+    @Gesture
+    public int getGesture() {
+        return mGesture;
+    }
+    
+    /**
+     * <p>Returns duration of gesture <b>(in ms)</b></p>
+     */
+    public long getDuration() {
+        return mDuration;
+    }
+    
+    /**
+     * <p>Returns count of frames measured during the gesture</p>
+     */
+    public int getFrameCount() {
+        return mFrameCount;
+    }
+    
+    /**
+     * <p>Returns count of display frames which were skipped during the gesture</p>
+     */
+    public int getDroppedFrames() {
+        return mDroppedFrames;
+    }
+    
+    /**
+     * <p>Returns median frame time <b>(in ms)</b></p>
+     */
+    public float getFrameTimeP50() {
+        return mFrameTimeP50;
+    }
+    
+    /**
+     * <p>Returns 95th percentile of frame time <b>(in ms)</b></p>
+     */
+    public float getFrameTimeP95() {
+        return mFrameTimeP95;
+    }
+    
+    /**
+     * <p>Returns 99th percentile of frame time <b>(in ms)</b></p>
+     */
+    public float getFrameTimeP99() {
+        return mFrameTimeP99;
+    }
+    
+    /**
+     * <p>Returns the longest frame time <b>(in ms)</b></p>
+     */
+    public float getWorstFrameTime() {
+        return mWorstFrameTime;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format(Locale.US,
+                "FrameStats{gesture=%s, duration=%dms, frames=%d, dropped=%d, p50=%.2fms, p95=%.2fms, p99=%.2fms, worst=%.2fms}",
+                mGesture == GESTURE_DRAG ? "DRAG" : "ANIMATION", mDuration, mFrameCount, mDroppedFrames,
+                mFrameTimeP50, mFrameTimeP95, mFrameTimeP99, mWorstFrameTime);
+    }
+    
+    private static float percentile(float[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100f * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,103 @@
+package com.mancj.slideup;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.view.MotionEvent;
+import android.view.View;
+
+/**
+ * <p>Plays touch events of {@link GestureTrace} back into {@link SlideUp} with original timing,
+ * historical samples are batched into their events as they were recorded, other records of the trace are not played</p>
+ */
+public final class GesturePlayer implements Runnable {
+    private final SlideUp mSlideUp;
+    private final GestureTrace mTrace;
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private Runnable mOnFinished;
+    private long mStartUptime;
+    private long mDownTime;
+    private int mNext;
+    private boolean mPlaying;
+    
+    public GesturePlayer(@NonNull SlideUp slideUp, @NonNull GestureTrace trace) {
+        mSlideUp = slideUp;
+        mTrace = trace;
+    }
+    
+    /**
+     * <p>Starts playing from the first record of trace</p>
+     *
+     * @param onFinished will be called on the main thread after the last touch event, can be null
+     */
+    public void play(@Nullable Runnable onFinished) {
+        stop();
+        mOnFinished = onFinished;
+        mPlaying = true;
+        mNext = 0;
+        mStartUptime = SystemClock.uptimeMillis();
+        mHandler.post(this);
+    }
+    
+    /**
+     * <p>Stops playing, events which were already dispatched are not reverted</p>
+     */
+    public void stop() {
+        mPlaying = false;
+        mHandler.removeCallbacks(this);
+    }
+    
+    public boolean isPlaying() {
+        return mPlaying;
+    }
+    
+    @Override
+    public void run() {
+        long now = SystemClock.uptimeMillis();
+        while (mPlaying && mNext < mTrace.getRecordCount()) {
+            int index = mNext;
+            if (mTrace.getType(index) != GestureTrace.TYPE_TOUCH) {
+                mNext++;
+                continue;
+            }
+            long time = mStartUptime + mTrace.getTime(index);
+            if (time > now) {
+                mHandler.postAtTime(this, time);
+                return;
+            }
+            mNext++;
+            dispatch(index, time);
+        }
+        if (mPlaying) {
+            mPlaying = false;
+            if (mOnFinished != null) {
+                mOnFinished.run();
+            }
+        }
+    }
+    
+    private void dispatch(int index, long time) {
+        int action = mTrace.getAction(index);
+        if (action == MotionEvent.ACTION_DOWN) {
+            mDownTime = time;
+        }
+        // event is built in screen coordinates, then all its samples are shifted to coordinates of the view
+        float offsetX = mTrace.getX(index) - mTrace.getRawX(index);
+        float offsetY = mTrace.getY(index) - mTrace.getRawY(index);
+        int first = index;
+        while (first > 0 && mTrace.getType(first - 1) == GestureTrace.TYPE_HISTORY) {
+            first--;
+        }
+        MotionEvent event = MotionEvent.obtain(mDownTime, mStartUptime + mTrace.getTime(first), action,
+                mTrace.getX(first) - offsetX, mTrace.getY(first) - offsetY, 0);
+        for (int i = first + 1; i <= index; i++) {
+            event.addBatch(mStartUptime + mTrace.getTime(i), mTrace.getX(i) - offsetX, mTrace.getY(i) - offsetY, 1f, 1f, 0);
+        }
+        event.offsetLocation(offsetX, offsetY);
+        View view = mTrace.isFromOtherView(index) ? mSlideUp.getAlsoScrollView() : null;
+        mSlideUp.onTouch(view != null ? view : mSlideUp.getSliderView(), event);
+        event.recycle();
+    }
+}
@@ -0,0 +1,131 @@
+package com.mancj.slideup;
+
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+import android.view.MotionEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * <p>Records touch events, animation frames and listener notifications of {@link SlideUp}
+ * into compact binary trace, which can be parsed by {@link GestureTrace}
+ * and played back by {@link GesturePlayer}</p>
+ */
+public final class GestureRecorder implements SlideUp.Listener.Events {
+    private final ByteArrayOutputStream mBuffer = new ByteArrayOutputStream(1024);
+    private final DataOutputStream mOutput = new DataOutputStream(mBuffer);
+    private SlideUp mSlideUp;
+    private long mLastTime = -1;
+    
+    public GestureRecorder() {
+        writeHeader();
+    }
+    
+    /**
+     * <p>Starts recording of all events of the SlideUp</p>
+     */
+    public void attach(@NonNull SlideUp slideUp) {
+        detach();
+        mSlideUp = slideUp;
+        mSlideUp.setGestureRecorder(this);
+        mSlideUp.addSlideListener(this);
+    }
+    
+    /**
+     * <p>Stops recording, already recorded events are kept</p>
+     */
+    public void detach() {
+        if (mSlideUp != null) {
+            mSlideUp.setGestureRecorder(null);
+            mSlideUp.removeSlideListener(this);
+            mSlideUp = null;
+        }
+    }
+    
+    /**
+     * <p>Removes all recorded events</p>
+     */
+    public void reset() {
+        mBuffer.reset();
+        mLastTime = -1;
+        writeHeader();
+    }
+    
+    /**
+     * <p>Returns recorded trace</p>
+     */
+    @NonNull
+    public byte[] toByteArray() {
+        return mBuffer.toByteArray();
+    }
+    
+    void onTouchEvent(boolean fromOtherView, MotionEvent event) {
+        // batched samples are kept, so velocity tracker and touch predictor get the same input on playback
+        for (int i = 0; i < event.getHistorySize(); i++) {
+            writeRecord(GestureTrace.TYPE_HISTORY, event.getHistoricalEventTime(i));
+            writeFloat(event.getHistoricalX(i));
+            writeFloat(event.getHistoricalY(i));
+        }
+        writeRecord(GestureTrace.TYPE_TOUCH, event.getEventTime());
+        write(event.getActionMasked() | (fromOtherView ? GestureTrace.FLAG_FROM_OTHER_VIEW : 0));
+        writeFloat(event.getX());
+        writeFloat(event.getY());
+        writeFloat(event.getRawX());
+        writeFloat(event.getRawY());
+    }
+    
+    void onAnimationFrame(float value) {
+        writeRecord(GestureTrace.TYPE_FRAME, SystemClock.uptimeMillis());
+        writeFloat(value);
+    }
+    
+    @Override
+    public void onSlide(float percent) {
+        writeRecord(GestureTrace.TYPE_SLIDE, SystemClock.uptimeMillis());
+        writeFloat(percent);
+    }
+    
+    @Override
+    public void onVisibilityChanged(int visibility) {
+        writeRecord(GestureTrace.TYPE_VISIBILITY, SystemClock.uptimeMillis());
+        write(visibility);
+    }
+    
+    private void writeHeader() {
+        try {
+            mOutput.writeInt(GestureTrace.MAGIC);
+            mOutput.writeByte(GestureTrace.VERSION);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private void writeRecord(int type, long time) {
+        long delta = mLastTime < 0 ? 0 : time - mLastTime;
+        mLastTime = time;
+        write(type);
+        try {
+            mOutput.writeInt((int) delta);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private void write(int value) {
+        try {
+            mOutput.writeByte(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private void writeFloat(float value) {
+        try {
+            mOutput.writeFloat(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.mancj.slideup;
+
+import android.support.annotation.NonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * <p>Parsed trace of gestures recorded by {@link GestureRecorder}:
+ * touch events, animation frames and listener notifications in order of their appearance</p>
+ *
+ * <p>Binary format: magic {@link #MAGIC}, version byte, then records of
+ * type byte, time from the previous record <b>(in ms)</b> int and payload:</p>
+ * <ul>
+ * <li>{@link #TYPE_TOUCH} - action byte (high bit is set if event came from the view
+ * of {@link SlideUpBuilder#withSlideFromOtherView(android.view.View)}), x, y, raw x, raw y floats</li>
+ * <li>{@link #TYPE_HISTORY} - x, y floats of historical sample batched into the next {@link #TYPE_TOUCH} record</li>
+ * <li>{@link #TYPE_FRAME} - animated value float</li>
+ * <li>{@link #TYPE_SLIDE} - percent float</li>
+ * <li>{@link #TYPE_VISIBILITY} - visibility byte</li>
+ * </ul>
+ */
+public final class GestureTrace {
+    static final int MAGIC = 0x53554754;
+    static final byte VERSION = 1;
+    static final int FLAG_FROM_OTHER_VIEW = 0x80;
+    
+    public static final int TYPE_TOUCH = 1;
+    public static final int TYPE_FRAME = 2;
+    public static final int TYPE_SLIDE = 3;
+    public static final int TYPE_VISIBILITY = 4;
+    public static final int TYPE_HISTORY = 5;
+    
+    private int mCount;
+    private byte[] mTypes = new byte[64];
+    private long[] mTimes = new long[64];
+    private int[] mActions = new int[64];
+    private float[] mValues = new float[64 * 4];
+    
+    /**
+     * <p>Parses trace produced by {@link GestureRecorder#toByteArray()}</p>
+     *
+     * @throws IllegalArgumentException if trace is malformed
+     */
+    public GestureTrace(@NonNull byte[] trace) {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(trace));
+        try {
+            if (input.readInt() != MAGIC || input.readByte() != VERSION) {
+                throw new IllegalArgumentException("Not a gesture trace or unsupported version");
+            }
+            long time = 0;
+            while (input.available() > 0) {
+                byte type = input.readByte();
+                time += input.readInt();
+                ensureCapacity();
+                mTypes[mCount] = type;
+                mTimes[mCount] = time;
+                switch (type) {
+                    case TYPE_TOUCH:
+                        mActions[mCount] = input.readUnsignedByte();
+                        for (int i = 0; i < 4; i++) {
+                            mValues[mCount * 4 + i] = input.readFloat();
+                        }
+                        break;
+                    case TYPE_HISTORY:
+                        mValues[mCount * 4] = input.readFloat();
+                        mValues[mCount * 4 + 1] = input.readFloat();
+                        break;
+                    case TYPE_FRAME:
+                    case TYPE_SLIDE:
+                        mValues[mCount * 4] = input.readFloat();
+                        break;
+                    case TYPE_VISIBILITY:
+                        mActions[mCount] = input.readByte();
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown record type " + type);
+                }
+                mCount++;
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Gesture trace is truncated", e);
+        }
+    }
+    
+    /**
+     * <p>Returns count of records</p>
+     */
+    public int getRecordCount() {
+        return mCount;
+    }
+    
+    /**
+     * <p>Returns type of record: {@link #TYPE_TOUCH}, {@link #TYPE_HISTORY}, {@link #TYPE_FRAME},
+     * {@link #TYPE_SLIDE} or {@link #TYPE_VISIBILITY}</p>
+     */
+    public int getType(int index) {
+        return mTypes[index];
+    }
+    
+    /**
+     * <p>Returns time of record <b>(in ms)</b> from the start of recording</p>
+     */
+    public long getTime(int index) {
+        return mTimes[index];
+    }
+    
+    /**
+     * <p>Returns masked action of {@link #TYPE_TOUCH} record</p>
+     */
+    public int getAction(int index) {
+        return mActions[index] & ~FLAG_FROM_OTHER_VIEW;
+    }
+    
+    /**
+     * <p>Returns true if {@link #TYPE_TOUCH} record came from the view of
+     * {@link SlideUpBuilder#withSlideFromOtherView(android.view.View)}</p>
+     */
+    public boolean isFromOtherView(int index) {
+        return (mActions[index] & FLAG_FROM_OTHER_VIEW) != 0;
+    }
+    
+    /**
+     * <p>Returns x of {@link #TYPE_TOUCH} or {@link #TYPE_HISTORY} record in coordinates of touched view</p>
+     */
+    public float getX(int index) {
+        return mValues[index * 4];
+    }
+    
+    /**
+     * <p>Returns y of {@link #TYPE_TOUCH} or {@link #TYPE_HISTORY} record in coordinates of touched view</p>
+     */
+    public float getY(int index) {
+        return mValues[index * 4 + 1];
+    }
+    
+    /**
+     * <p>Returns x of {@link #TYPE_TOUCH} record in screen coordinates</p>
+     */
+    public float getRawX(int index) {
+        return mValues[index * 4 + 2];
+    }
+    
+    /**
+     * <p>Returns y of {@link #TYPE_TOUCH} record in screen coordinates</p>
+     */
+    public float getRawY(int index) {
+        return mValues[index * 4 + 3];
+    }
+    
+    /**
+     * <p>Returns animated value of {@link #TYPE_FRAME} record or percent of {@link #TYPE_SLIDE} record</p>
+     */
+    public float getValue(int index) {
+        return mValues[index * 4];
+    }
+    
+    /**
+     * <p>Returns visibility of {@link #TYPE_VISIBILITY} record</p>
+     */
+    public int getVisibility(int index) {
+        return mActions[index];
+    }
+    
+    private void ensureCapacity() {
+        if (mCount == mTypes.length) {
+            int capacity = mCount * 2;
+            mTypes = Arrays.copyOf(mTypes, capacity);
+            mTimes = Arrays.copyOf(mTimes, capacity);
+            mActions = Arrays.copyOf(mActions, capacity);
+            mValues = Arrays.copyOf(mValues, capacity * 4);
+        }
+    }
+}
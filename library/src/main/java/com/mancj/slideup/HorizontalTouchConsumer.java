@@ -7,46 +7,60 @@ import android.view.View;
  * @author pa.gulko zTrap (12.07.2017)
  */
 class HorizontalTouchConsumer extends TouchConsumer {
-    private boolean mGoingToStart = false;
-    private boolean mGoingToEnd = false;
+    HorizontalTouchConsumer(SlideUpBuilder builder, LoggerNotifier notifier, AnimationProcessor animationProcessor,
+                            MotionLayerController motionLayerController) {
+        super(builder, notifier, animationProcessor, motionLayerController);
+    }
+    
+    @Override
+    void applyTranslation(float translation) {
+        mBuilder.mSliderView.setTranslationX(translation);
+    }
+    
+    @Override
+    float getTranslation() {
+        return mBuilder.mSliderView.getTranslationX();
+    }
+    
+    boolean canSlideEndToStart(View touchedView, float touchedArea) {
+        return touchFromAlsoSlide(touchedView) || getStart() + mBuilder.mTouchableArea >= touchedArea;
+    }
     
-    HorizontalTouchConsumer(SlideUpBuilder builder, LoggerNotifier notifier, AnimationProcessor animationProcessor) {
-        super(builder, notifier, animationProcessor);
+    boolean canSlideStartToEnd(View touchedView, float touchedArea) {
+        return touchFromAlsoSlide(touchedView) || getEnd() - mBuilder.mTouchableArea >= touchedArea;
     }
     
     boolean consumeEndToStart(View touchedView, MotionEvent event){
         float touchedArea = event.getX();
+        preConsume(event);
         switch (event.getActionMasked()){
             case MotionEvent.ACTION_DOWN:
                 mViewWidth = mBuilder.mSliderView.getWidth();
+                mCanSlide = canSlideEndToStart(touchedView, touchedArea);
+                // touch which can't drag the slider (e.g. tap on its content) doesn't stop the animation
+                mAnimationInterrupted = mCanSlide && mAnimationProcessor.cancelAnimation();
                 mStartPositionX = event.getRawX();
                 mViewStartPositionX = mBuilder.mSliderView.getTranslationX();
-                mCanSlide = touchFromAlsoSlide(touchedView, event);
-                mCanSlide |= getStart() + mBuilder.mTouchableArea >= touchedArea;
                 break;
             case MotionEvent.ACTION_MOVE:
-                float difference = event.getRawX() - mStartPositionX;
+                float difference = getTouchX(event) - mStartPositionX;
                 float moveTo = mViewStartPositionX + difference;
                 float percents = moveTo * 100 / mBuilder.mSliderView.getWidth();
-                calculateDirection(event);
-                
+
                 if (moveTo > 0 && mCanSlide){
-                    mNotifier.notifyPercentChanged(percents);
-                    mBuilder.mSliderView.setTranslationX(moveTo);
+                    dragTo(moveTo, percents);
                 }
                 break;
             case MotionEvent.ACTION_UP:
                 float slideAnimationFrom = mBuilder.mSliderView.getTranslationX();
-                if (slideAnimationFrom == mViewStartPositionX){
+                if ((!mCanSlide || slideAnimationFrom == mViewStartPositionX) && !mAnimationInterrupted){
                     return !Internal.isUpEventInView(mBuilder.mSliderView, event);
                 }
-                boolean scrollableAreaConsumed = mBuilder.mSliderView.getTranslationX() > mBuilder.mSliderView.getWidth() / 5;
+                float velocity = getVelocityX();
+                recycleVelocityTracker();
                 
-                if (scrollableAreaConsumed && mGoingToEnd){
-                    mAnimationProcessor.setValuesAndStart(slideAnimationFrom, mBuilder.mSliderView.getWidth());
-                }else {
-                    mAnimationProcessor.setValuesAndStart(slideAnimationFrom, 0);
-                }
+                float settleTo = findSettlePosition(slideAnimationFrom, mBuilder.mSliderView.getWidth(), velocity);
+                mAnimationProcessor.setValuesAndStart(slideAnimationFrom, settleTo, velocity);
                 mCanSlide = true;
                 break;
         }
@@ -57,37 +71,36 @@ class HorizontalTouchConsumer extends TouchConsumer {
     
     boolean consumeStartToEnd(View touchedView, MotionEvent event){
         float touchedArea = event.getX();
+        preConsume(event);
         switch (event.getActionMasked()){
             case MotionEvent.ACTION_DOWN:
                 mViewWidth = mBuilder.mSliderView.getWidth();
+                mCanSlide = canSlideStartToEnd(touchedView, touchedArea);
+                // touch which can't drag the slider (e.g. tap on its content) doesn't stop the animation
+                mAnimationInterrupted = mCanSlide && mAnimationProcessor.cancelAnimation();
                 mStartPositionX = event.getRawX();
                 mViewStartPositionX = mBuilder.mSliderView.getTranslationX();
-                mCanSlide = touchFromAlsoSlide(touchedView, event);
-                mCanSlide |= getEnd() - mBuilder.mTouchableArea >= touchedArea;
                 break;
             case MotionEvent.ACTION_MOVE:
-                float difference = event.getRawX() - mStartPositionX;
+                float difference = getTouchX(event) - mStartPositionX;
                 float moveTo = mViewStartPositionX + difference;
                 float percents = moveTo * 100 / -mBuilder.mSliderView.getWidth();
-                calculateDirection(event);
-                
+
                 if (moveTo < 0 && mCanSlide){
-                    mNotifier.notifyPercentChanged(percents);
-                    mBuilder.mSliderView.setTranslationX(moveTo);
+                    dragTo(moveTo, percents);
                 }
                 break;
             case MotionEvent.ACTION_UP:
                 float slideAnimationFrom = -mBuilder.mSliderView.getTranslationX();
-                if (slideAnimationFrom == mViewStartPositionX){
+                // slideAnimationFrom is negated translation, so it is compared with the negated start translation
+                if ((!mCanSlide || slideAnimationFrom == -mViewStartPositionX) && !mAnimationInterrupted){
                     return !Internal.isUpEventInView(mBuilder.mSliderView, event);
                 }
-                boolean scrollableAreaConsumed = mBuilder.mSliderView.getTranslationX() < -mBuilder.mSliderView.getHeight() / 5;
+                float velocity = -getVelocityX();
+                recycleVelocityTracker();
                 
-                if (scrollableAreaConsumed && mGoingToStart){
-                    mAnimationProcessor.setValuesAndStart(slideAnimationFrom, mBuilder.mSliderView.getWidth());
-                }else {
-                    mAnimationProcessor.setValuesAndStart(slideAnimationFrom, 0);
-                }
+                float settleTo = findSettlePosition(slideAnimationFrom, mBuilder.mSliderView.getWidth(), velocity);
+                mAnimationProcessor.setValuesAndStart(slideAnimationFrom, settleTo, velocity);
                 mCanSlide = true;
                 break;
         }
@@ -95,9 +108,4 @@ class HorizontalTouchConsumer extends TouchConsumer {
         mPrevPositionX = event.getRawX();
         return true;
     }
-
-    private void calculateDirection(MotionEvent event) {
-        mGoingToStart = mPrevPositionX - event.getRawX() > 0;
-        mGoingToEnd = mPrevPositionX - event.getRawX() < 0;
-    }
 }
@@ -0,0 +1,64 @@
+package com.mancj.slideup;
+
+import android.app.Activity;
+import android.app.Application;
+import android.os.Bundle;
+
+/**
+ * <p>Follows lifecycle of the {@link Activity} which hosts the slider,
+ * pauses {@link SlideUp} while the host is stopped and releases it when the host is destroyed</p>
+ */
+class HostLifecycleBinder implements Application.ActivityLifecycleCallbacks {
+    private final SlideUp mSlideUp;
+    private final Activity mActivity;
+    
+    HostLifecycleBinder(SlideUp slideUp, Activity activity) {
+        mSlideUp = slideUp;
+        mActivity = activity;
+    }
+    
+    void bind() {
+        mActivity.getApplication().registerActivityLifecycleCallbacks(this);
+    }
+    
+    void unbind() {
+        mActivity.getApplication().unregisterActivityLifecycleCallbacks(this);
+    }
+    
+    @Override
+    public void onActivityStarted(Activity activity) {
+        if (activity == mActivity) {
+            mSlideUp.onHostStarted();
+        }
+    }
+    
+    @Override
+    public void onActivityStopped(Activity activity) {
+        if (activity == mActivity) {
+            mSlideUp.onHostStopped();
+        }
+    }
+    
+    @Override
+    public void onActivityDestroyed(Activity activity) {
+        if (activity == mActivity) {
+            mSlideUp.release();
+        }
+    }
+    
+    @Override
+    public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+    }
+    
+    @Override
+    public void onActivityResumed(Activity activity) {
+    }
+    
+    @Override
+    public void onActivityPaused(Activity activity) {
+    }
+    
+    @Override
+    public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+    }
+}
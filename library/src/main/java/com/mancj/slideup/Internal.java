@@ -1,5 +1,8 @@
 package com.mancj.slideup;
 
+import android.app.Activity;
+import android.content.Context;
+import android.content.ContextWrapper;
 import android.graphics.Rect;
 import android.view.MotionEvent;
 import android.view.View;
@@ -16,6 +19,16 @@ class Internal {
         }
     }
     
+    static Activity findActivity(Context context) {
+        while (context instanceof ContextWrapper) {
+            if (context instanceof Activity) {
+                return (Activity) context;
+            }
+            context = ((ContextWrapper) context).getBaseContext();
+        }
+        return null;
+    }
+    
     static boolean isUpEventInView(View view, MotionEvent event){
         view.getHitRect(sRect);
         return sRect.contains((int) event.getRawX(), (int) event.getRawY());
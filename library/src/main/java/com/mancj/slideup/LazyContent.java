@@ -0,0 +1,158 @@
+package com.mancj.slideup;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewStub;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * <p>Content of slider which is inflated on the background thread, slider shows placeholder until it is ready</p>
+ *
+ * <p>Content defined by layout resource replaces children of slider, content defined by {@link ViewStub} replaces the stub.
+ * If background inflation fails (e.g. some view of the layout requires {@link Looper}) content is inflated on the main thread</p>
+ */
+class LazyContent {
+    private static final int IDLE = 0;
+    private static final int INFLATING = 1;
+    private static final int INFLATED = 2;
+    private static final int RELEASED = 3;
+    
+    private static ExecutorService sExecutor;
+    
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private SlideUpBuilder mBuilder;
+    private LayoutInflater mInflater;
+    private int mState = IDLE;
+    private View mContent;
+    
+    LazyContent(SlideUpBuilder builder) {
+        mBuilder = builder;
+        Context context = builder.mSliderView.getContext();
+        // LayoutInflater is not thread safe, so background thread uses its own instance
+        mInflater = LayoutInflater.from(context).cloneInContext(context);
+    }
+    
+    /**
+     * <p>Starts inflation on the background thread, does nothing if content is already inflated or inflating</p>
+     */
+    void inflateAsync() {
+        if (mState != IDLE) {
+            return;
+        }
+        mState = INFLATING;
+        final int layout = getLayout();
+        final ViewGroup parent = getParent();
+        getExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                View content;
+                try {
+                    content = mInflater.inflate(layout, parent, false);
+                } catch (RuntimeException e) {
+                    content = null;
+                }
+                final View inflated = content;
+                mHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        onInflated(inflated);
+                    }
+                });
+            }
+        });
+    }
+    
+    /**
+     * <p>Inflates content on the current thread if it is not inflated yet, result of background inflation is dropped.
+     * Does nothing after {@link #release()}</p>
+     */
+    void inflateNow() {
+        if (mState == INFLATED || mState == RELEASED) {
+            return;
+        }
+        attach(LayoutInflater.from(mBuilder.mSliderView.getContext()).inflate(getLayout(), getParent(), false));
+    }
+    
+    boolean isInflated() {
+        return mState == INFLATED;
+    }
+    
+    View getContent() {
+        return mContent;
+    }
+    
+    void release() {
+        if (mState != INFLATED) {
+            // result of running inflation is dropped and content is never inflated
+            mState = RELEASED;
+        }
+        mHandler.removeCallbacksAndMessages(null);
+    }
+    
+    private void onInflated(View content) {
+        if (mState != INFLATING) {
+            return;
+        }
+        if (content == null) {
+            inflateNow();
+        } else {
+            attach(content);
+        }
+    }
+    
+    private void attach(View content) {
+        mState = INFLATED;
+        mContent = content;
+        ViewStub stub = mBuilder.mContentStub;
+        if (stub != null) {
+            ViewGroup parent = (ViewGroup) stub.getParent();
+            int index = parent.indexOfChild(stub);
+            parent.removeView(stub);
+            if (stub.getInflatedId() != View.NO_ID) {
+                content.setId(stub.getInflatedId());
+            }
+            ViewGroup.LayoutParams params = stub.getLayoutParams();
+            if (params != null) {
+                parent.addView(content, index, params);
+            } else {
+                parent.addView(content, index);
+            }
+        } else {
+            ViewGroup slider = (ViewGroup) mBuilder.mSliderView;
+            slider.removeAllViews();
+            slider.addView(content);
+        }
+        if (mBuilder.mContentListener != null) {
+            mBuilder.mContentListener.onContentInflated(content);
+        }
+    }
+    
+    private int getLayout() {
+        return mBuilder.mContentStub != null ? mBuilder.mContentStub.getLayoutResource() : mBuilder.mContentLayout;
+    }
+    
+    private ViewGroup getParent() {
+        return mBuilder.mContentStub != null ? (ViewGroup) mBuilder.mContentStub.getParent() : (ViewGroup) mBuilder.mSliderView;
+    }
+    
+    private static synchronized ExecutorService getExecutor() {
+        if (sExecutor == null) {
+            sExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "SlideUp-Inflater");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return sExecutor;
+    }
+}
@@ -0,0 +1,149 @@
+package com.mancj.slideup;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * <p>Holds {@link SlideUp.Listener}s split by type into arrays, which are copied on every change,
+ * so notifications are done without allocations and listeners can be added or removed during notification</p>
+ *
+ * <p>Like the rest of SlideUp it must be used on the UI thread only, so the arrays are not guarded</p>
+ */
+class ListenerRegistry {
+    private static final SlideUp.Listener.Slide[] EMPTY_SLIDE = new SlideUp.Listener.Slide[0];
+    private static final SlideUp.Listener.Visibility[] EMPTY_VISIBILITY = new SlideUp.Listener.Visibility[0];
+    
+    private SlideUp.Listener.Slide[] mSlideListeners = EMPTY_SLIDE;
+    private SlideUp.Listener.Visibility[] mVisibilityListeners = EMPTY_VISIBILITY;
+    
+    void add(SlideUp.Listener listener) {
+        if (listener instanceof SlideUp.Listener.Slide) {
+            mSlideListeners = append(mSlideListeners, (SlideUp.Listener.Slide) listener);
+        }
+        if (listener instanceof SlideUp.Listener.Visibility) {
+            mVisibilityListeners = append(mVisibilityListeners, (SlideUp.Listener.Visibility) listener);
+        }
+    }
+    
+    /**
+     * <p>Adds listener which is held by {@link WeakReference}, it is removed automatically
+     * on the first notification after it was garbage collected</p>
+     */
+    void addWeak(SlideUp.Listener listener) {
+        if (listener instanceof SlideUp.Listener.Slide) {
+            mSlideListeners = append(mSlideListeners, new WeakSlideListener(this, (SlideUp.Listener.Slide) listener));
+        }
+        if (listener instanceof SlideUp.Listener.Visibility) {
+            mVisibilityListeners = append(mVisibilityListeners, new WeakVisibilityListener(this, (SlideUp.Listener.Visibility) listener));
+        }
+    }
+    
+    void addAll(Collection<? extends SlideUp.Listener> listeners) {
+        for (SlideUp.Listener listener : listeners) {
+            add(listener);
+        }
+    }
+    
+    void remove(SlideUp.Listener listener) {
+        if (listener instanceof SlideUp.Listener.Slide) {
+            mSlideListeners = remove(mSlideListeners, listener, EMPTY_SLIDE);
+        }
+        if (listener instanceof SlideUp.Listener.Visibility) {
+            mVisibilityListeners = remove(mVisibilityListeners, listener, EMPTY_VISIBILITY);
+        }
+    }
+    
+    void clear() {
+        mSlideListeners = EMPTY_SLIDE;
+        mVisibilityListeners = EMPTY_VISIBILITY;
+    }
+    
+    /**
+     * @return snapshot of slide listeners, <b>must not be modified</b>
+     */
+    SlideUp.Listener.Slide[] getSlideListeners() {
+        return mSlideListeners;
+    }
+    
+    /**
+     * @return snapshot of visibility listeners, <b>must not be modified</b>
+     */
+    SlideUp.Listener.Visibility[] getVisibilityListeners() {
+        return mVisibilityListeners;
+    }
+    
+    private static <T> T[] append(T[] array, T item) {
+        T[] result = Arrays.copyOf(array, array.length + 1);
+        result[array.length] = item;
+        return result;
+    }
+    
+    private static <T> T[] remove(T[] array, Object item, T[] empty) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == item || array[i] instanceof WeakListener && ((WeakListener) array[i]).get() == item) {
+                if (array.length == 1) {
+                    return empty;
+                }
+                T[] result = Arrays.copyOf(array, array.length - 1);
+                System.arraycopy(array, i + 1, result, i, array.length - i - 1);
+                return result;
+            }
+        }
+        return array;
+    }
+    
+    private interface WeakListener {
+        SlideUp.Listener get();
+    }
+    
+    private static final class WeakSlideListener implements SlideUp.Listener.Slide, WeakListener {
+        private final ListenerRegistry mRegistry;
+        private final WeakReference<SlideUp.Listener.Slide> mReference;
+        
+        WeakSlideListener(ListenerRegistry registry, SlideUp.Listener.Slide listener) {
+            mRegistry = registry;
+            mReference = new WeakReference<>(listener);
+        }
+        
+        @Override
+        public SlideUp.Listener get() {
+            return mReference.get();
+        }
+        
+        @Override
+        public void onSlide(float percent) {
+            SlideUp.Listener.Slide listener = mReference.get();
+            if (listener != null) {
+                listener.onSlide(percent);
+            } else {
+                mRegistry.remove(this);
+            }
+        }
+    }
+    
+    private static final class WeakVisibilityListener implements SlideUp.Listener.Visibility, WeakListener {
+        private final ListenerRegistry mRegistry;
+        private final WeakReference<SlideUp.Listener.Visibility> mReference;
+        
+        WeakVisibilityListener(ListenerRegistry registry, SlideUp.Listener.Visibility listener) {
+            mRegistry = registry;
+            mReference = new WeakReference<>(listener);
+        }
+        
+        @Override
+        public SlideUp.Listener get() {
+            return mReference.get();
+        }
+        
+        @Override
+        public void onVisibilityChanged(int visibility) {
+            SlideUp.Listener.Visibility listener = mReference.get();
+            if (listener != null) {
+                listener.onVisibilityChanged(visibility);
+            } else {
+                mRegistry.remove(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.mancj.slideup;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import static com.mancj.slideup.SlideUp.MOTION_LAYER_ALWAYS;
+import static com.mancj.slideup.SlideUp.MOTION_LAYER_AUTO;
+import static com.mancj.slideup.SlideUp.MOTION_LAYER_NONE;
+
+/**
+ * <p>Switches slider to {@link View#LAYER_TYPE_HARDWARE} while it moves,
+ * so the hierarchy of slider isn't redrawn on every frame</p>
+ */
+class MotionLayerController implements Runnable {
+    /**
+     * Minimal side <b>(in dp)</b> of the square, which area the slider should have
+     * to be promoted in {@link SlideUp#MOTION_LAYER_AUTO} mode
+     */
+    private static final float AUTO_MIN_SIDE_DP = 160;
+    
+    private SlideUpBuilder mBuilder;
+    private boolean mPromoted;
+    private int mOriginalLayerType;
+    private boolean mMoving;
+    private boolean mRestorePosted;
+    
+    MotionLayerController(SlideUpBuilder builder) {
+        mBuilder = builder;
+    }
+    
+    /**
+     * <p>Called when drag or animation starts</p>
+     */
+    void onMotionStarted() {
+        if (mBuilder.mMotionLayer == MOTION_LAYER_NONE) {
+            return;
+        }
+        mMoving = true;
+        View view = mBuilder.mSliderView;
+        if (mRestorePosted) {
+            mRestorePosted = false;
+            view.removeCallbacks(this);
+        }
+        if (mPromoted || !shouldPromote(view)) {
+            return;
+        }
+        mOriginalLayerType = view.getLayerType();
+        view.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+        mPromoted = true;
+    }
+    
+    /**
+     * <p>Called when drag or animation ends, layer is restored on the next loop,
+     * so the layer isn't recreated when drag turns into animation or animation is restarted</p>
+     */
+    void onMotionFinished() {
+        mMoving = false;
+        if (mPromoted && !mRestorePosted) {
+            mRestorePosted = true;
+            mBuilder.mSliderView.post(this);
+        }
+    }
+    
+    @Override
+    public void run() {
+        mRestorePosted = false;
+        if (mPromoted && !mMoving) {
+            mBuilder.mSliderView.setLayerType(mOriginalLayerType, null);
+            mPromoted = false;
+        }
+    }
+    
+    /**
+     * <p>Restores layer of slider immediately, called when SlideUp is released</p>
+     */
+    void release() {
+        mMoving = false;
+        if (mRestorePosted) {
+            mBuilder.mSliderView.removeCallbacks(this);
+        }
+        run();
+    }
+    
+    private boolean shouldPromote(View view) {
+        if (view.getLayerType() != View.LAYER_TYPE_NONE) {
+            return false;
+        }
+        switch (mBuilder.mMotionLayer) {
+            case MOTION_LAYER_ALWAYS:
+                return true;
+            case MOTION_LAYER_AUTO:
+                float minSide = AUTO_MIN_SIDE_DP * mBuilder.mDensity;
+                return view instanceof ViewGroup
+                        && (float) view.getWidth() * view.getHeight() >= minSide * minSide;
+            default:
+                return false;
+        }
+    }
+}
@@ -18,12 +18,22 @@ public class OnGlobalLayoutSingleListener implements ViewTreeObserver.OnGlobalLa
     
     @Override
     public final void onGlobalLayout() {
+        cancel();
+        mRunnable.run();
+    }
+    
+    /**
+     * <p>Removes this listener from {@link ViewTreeObserver} if it wasn't called yet</p>
+     */
+    void cancel() {
         ViewTreeObserver observer = mView.getViewTreeObserver();
+        if (!observer.isAlive()) {
+            return;
+        }
         if (Build.VERSION.SDK_INT <= Build.VERSION_CODES.JELLY_BEAN) {
             observer.removeGlobalOnLayoutListener(this);
         } else {
             observer.removeOnGlobalLayoutListener(this);
         }
-        mRunnable.run();
     }
 }
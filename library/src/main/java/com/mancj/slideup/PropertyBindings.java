@@ -0,0 +1,131 @@
+package com.mancj.slideup;
+
+import android.view.View;
+
+import java.util.Arrays;
+
+import static com.mancj.slideup.SlideUp.PROPERTY_ALPHA;
+import static com.mancj.slideup.SlideUp.PROPERTY_ROTATION;
+import static com.mancj.slideup.SlideUp.PROPERTY_SCALE_X;
+import static com.mancj.slideup.SlideUp.PROPERTY_SCALE_Y;
+import static com.mancj.slideup.SlideUp.PROPERTY_TRANSLATION_X;
+import static com.mancj.slideup.SlideUp.PROPERTY_TRANSLATION_Y;
+
+/**
+ * <p>Properties of views bound to the slide percent by keyframed mappings</p>
+ *
+ * <p>Bindings are kept in flat arrays, keyframes of every binding are stored together with precomputed
+ * slopes of segments as {@code [percent, value, slope]} triples, so they are applied in one loop
+ * without interface calls, boxing or divisions</p>
+ */
+class PropertyBindings {
+    private static final int KEY_SIZE = 3;
+    
+    private int mCount;
+    private View[] mTargets = new View[0];
+    private int[] mProperties = new int[0];
+    private int[] mFirstKey = new int[0];
+    private int[] mLastKey = new int[0];
+    private float[] mLastValues = new float[0];
+    private float[] mKeys = new float[0];
+    
+    /**
+     * @param percents ascending percents of keyframes <b>(100 = HIDDEN, 0 = SHOWED)</b>
+     * @param values   values of property at keyframes
+     */
+    void add(View target, @SlideUp.BoundProperty int property, float[] percents, float[] values) {
+        Internal.checkNonNull(target, "Target view can't be null");
+        if (percents.length != values.length || percents.length < 2) {
+            throw new IllegalArgumentException("Binding needs at least two keyframes with percent and value for each");
+        }
+        for (int i = 1; i < percents.length; i++) {
+            if (percents[i] <= percents[i - 1]) {
+                throw new IllegalArgumentException("Percents of keyframes must be ascending");
+            }
+        }
+        int index = mCount++;
+        mTargets = Arrays.copyOf(mTargets, mCount);
+        mProperties = Arrays.copyOf(mProperties, mCount);
+        mFirstKey = Arrays.copyOf(mFirstKey, mCount);
+        mLastKey = Arrays.copyOf(mLastKey, mCount);
+        mLastValues = Arrays.copyOf(mLastValues, mCount);
+        mTargets[index] = target;
+        mProperties[index] = property;
+        mLastValues[index] = Float.NaN;
+        
+        int first = mKeys.length;
+        mKeys = Arrays.copyOf(mKeys, first + percents.length * KEY_SIZE);
+        for (int i = 0; i < percents.length; i++) {
+            int key = first + i * KEY_SIZE;
+            mKeys[key] = percents[i];
+            mKeys[key + 1] = values[i];
+            if (i < percents.length - 1) {
+                mKeys[key + 2] = (values[i + 1] - values[i]) / (percents[i + 1] - percents[i]);
+            }
+        }
+        mFirstKey[index] = first;
+        mLastKey[index] = first + (percents.length - 1) * KEY_SIZE;
+    }
+    
+    boolean isEmpty() {
+        return mCount == 0;
+    }
+    
+    void clear() {
+        mCount = 0;
+        mKeys = new float[0];
+        Arrays.fill(mTargets, null);
+    }
+    
+    /**
+     * <p>Sets values of all bound properties for the percent, properties which values aren't changed are skipped</p>
+     */
+    void apply(float percent) {
+        View[] targets = mTargets;
+        int[] properties = mProperties;
+        int[] firstKey = mFirstKey;
+        int[] lastKey = mLastKey;
+        float[] lastValues = mLastValues;
+        float[] keys = mKeys;
+        for (int i = 0, count = mCount; i < count; i++) {
+            int key = firstKey[i];
+            int last = lastKey[i];
+            float value;
+            if (percent <= keys[key]) {
+                value = keys[key + 1];
+            } else if (percent >= keys[last]) {
+                value = keys[last + 1];
+            } else {
+                while (percent > keys[key + KEY_SIZE]) {
+                    key += KEY_SIZE;
+                }
+                value = keys[key + 1] + (percent - keys[key]) * keys[key + 2];
+            }
+            if (value == lastValues[i]) {
+                continue;
+            }
+            lastValues[i] = value;
+            View target = targets[i];
+            switch (properties[i]) {
+                case PROPERTY_ALPHA:
+                    target.setAlpha(value);
+                    break;
+                case PROPERTY_TRANSLATION_X:
+                    target.setTranslationX(value);
+                    break;
+                case PROPERTY_TRANSLATION_Y:
+                    target.setTranslationY(value);
+                    break;
+                case PROPERTY_SCALE_X:
+                    target.setScaleX(value);
+                    break;
+                case PROPERTY_SCALE_Y:
+                    target.setScaleY(value);
+                    break;
+                case PROPERTY_ROTATION:
+                    target.setRotation(value);
+                    break;
+            }
+        }
+    }
+}
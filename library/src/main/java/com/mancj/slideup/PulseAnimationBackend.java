@@ -0,0 +1,128 @@
+package com.mancj.slideup;
+
+import android.animation.TimeInterpolator;
+import android.annotation.TargetApi;
+import android.os.Build;
+
+/**
+ * <p>{@link AnimationBackend} driven by shared {@link FramePulse} instead of its own {@link android.animation.ValueAnimator},
+ * animated values are passed straight to {@link SlideUp} without boxing and listeners of animator</p>
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+class PulseAnimationBackend implements AnimationBackend {
+    private SlideUpBuilder mBuilder;
+    private SlideUp mSlideUp;
+    private FramePulse mPulse;
+    private SpringCurve mCurve;
+    
+    /**
+     * True while backend is in the list of {@link FramePulse}
+     */
+    boolean mRegistered;
+    
+    private boolean mRunning;
+    private TimeInterpolator mInterpolator;
+    private float mFrom;
+    private float mTo;
+    private long mDuration;
+    private long mStartTimeNanos;
+    private long mPlayTime;
+    private int mGeneration;
+    
+    PulseAnimationBackend(SlideUpBuilder builder, SlideUp slideUp, FramePulse pulse) {
+        mBuilder = builder;
+        mSlideUp = slideUp;
+        mPulse = pulse;
+        if (builder.mSpringAnimation) {
+            mCurve = new SpringCurve();
+        }
+        paramsChanged();
+    }
+    
+    @Override
+    public void start(float from, float to, float velocity) {
+        if (mRunning) {
+            if (mCurve != null) {
+                float time = mPlayTime / 1000f;
+                if (time < mCurve.getDuration()) {
+                    from = mCurve.positionAt(time);
+                    velocity = mCurve.velocityAt(time);
+                }
+            }
+            cancel();
+        }
+        if (mCurve != null) {
+            mCurve.set(from, to, velocity);
+            mDuration = (long) (mCurve.getDuration() * 1000);
+            mInterpolator = mCurve;
+        } else {
+            mDuration = TweenAnimationBackend.calculateDuration(mBuilder, to - from, velocity);
+            mInterpolator = mBuilder.mInterpolator;
+        }
+        mFrom = from;
+        mTo = to;
+        mStartTimeNanos = -1;
+        mPlayTime = 0;
+        mGeneration++;
+        mRunning = true;
+        mSlideUp.onSlideAnimationStart();
+        mPulse.add(this);
+    }
+    
+    @Override
+    public void end() {
+        if (mRunning) {
+            mRunning = false;
+            mSlideUp.onAnimationValue(mTo);
+            mSlideUp.onSlideAnimationEnd();
+        }
+    }
+    
+    @Override
+    public void cancel() {
+        if (mRunning) {
+            mRunning = false;
+            mSlideUp.onSlideAnimationCancel();
+            mSlideUp.onSlideAnimationEnd();
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return mRunning;
+    }
+    
+    @Override
+    public void paramsChanged() {
+        if (mCurve != null) {
+            mCurve.setStiffness(mBuilder.mSpringStiffness);
+        }
+    }
+    
+    @Override
+    public void release() {
+        // the pulse drops stopped backend on the next frame
+        mRunning = false;
+    }
+    
+    /**
+     * <p>Applies the animated value of the frame</p>
+     *
+     * @return true if animation should be updated on the next frame
+     */
+    boolean doFrame(long frameTimeNanos) {
+        if (mStartTimeNanos < 0) {
+            mStartTimeNanos = frameTimeNanos;
+        }
+        mPlayTime = (frameTimeNanos - mStartTimeNanos) / 1000000;
+        float fraction = mDuration > 0 ? Math.min(1f, (float) mPlayTime / mDuration) : 1f;
+        int generation = mGeneration;
+        mSlideUp.onAnimationValue(mFrom + (mTo - mFrom) * mInterpolator.getInterpolation(fraction));
+        // listeners may restart or stop the animation while the value is applied
+        if (fraction >= 1 && mRunning && generation == mGeneration) {
+            mRunning = false;
+            mSlideUp.onSlideAnimationEnd();
+        }
+        return mRunning;
+    }
+}
@@ -0,0 +1,172 @@
+package com.mancj.slideup;
+
+import android.animation.TimeInterpolator;
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.Choreographer;
+import android.view.Gravity;
+import android.view.View;
+import android.view.ViewPropertyAnimator;
+
+/**
+ * <p>{@link AnimationBackend} which hands translation of the slider to {@link ViewPropertyAnimator},
+ * so on hardware accelerated window the slider moves on RenderThread even if the main thread is busy</p>
+ *
+ * <p>Animator is started without listeners, otherwise it falls back to the main thread.
+ * Progress is sampled separately: every frame the value is calculated from the same duration and interpolator
+ * and passed to {@link SlideUp#onAnimationSample(float)}, which notifies listeners without touching translation</p>
+ */
+@TargetApi(Build.VERSION_CODES.LOLLIPOP)
+class RenderThreadAnimationBackend implements AnimationBackend, Choreographer.FrameCallback {
+    private SlideUpBuilder mBuilder;
+    private SlideUp mSlideUp;
+    private SpringCurve mCurve;
+    
+    private boolean mRunning;
+    private boolean mPosted;
+    private TimeInterpolator mInterpolator;
+    private float mFrom;
+    private float mTo;
+    private long mDuration;
+    private long mStartTimeNanos;
+    private float mFraction;
+    
+    RenderThreadAnimationBackend(SlideUpBuilder builder, SlideUp slideUp) {
+        mBuilder = builder;
+        mSlideUp = slideUp;
+        if (builder.mSpringAnimation) {
+            mCurve = new SpringCurve();
+        }
+        paramsChanged();
+    }
+    
+    @Override
+    public void start(float from, float to, float velocity) {
+        if (mRunning) {
+            from = getCurrentValue();
+            if (mCurve != null && mFraction < 1) {
+                velocity = mCurve.velocityAt(mFraction * mCurve.getDuration());
+            }
+            cancel();
+        }
+        if (mCurve != null) {
+            mCurve.set(from, to, velocity);
+            mDuration = (long) (mCurve.getDuration() * 1000);
+            mInterpolator = mCurve;
+        } else {
+            mDuration = TweenAnimationBackend.calculateDuration(mBuilder, to - from, velocity);
+            mInterpolator = mBuilder.mInterpolator;
+        }
+        mFrom = from;
+        mTo = to;
+        mStartTimeNanos = -1;
+        mFraction = 0;
+        mRunning = true;
+        View view = mBuilder.mSliderView;
+        if (view.getVisibility() != View.VISIBLE) {
+            // RenderThread draws only visible slider, it can't wait for the first sampled frame
+            view.setVisibility(View.VISIBLE);
+        }
+        mSlideUp.onSlideAnimationStart();
+        ViewPropertyAnimator animator = view.animate();
+        animator.setListener(null);
+        animator.setUpdateListener(null);
+        animator.setInterpolator(mInterpolator);
+        animator.setDuration(mDuration);
+        switch (mBuilder.mStartGravity) {
+            case Gravity.TOP:
+                animator.translationY(-to);
+                break;
+            case Gravity.BOTTOM:
+                animator.translationY(to);
+                break;
+            case Gravity.START:
+                animator.translationX(-to);
+                break;
+            case Gravity.END:
+                animator.translationX(to);
+                break;
+        }
+        animator.start();
+        if (!mPosted) {
+            mPosted = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+    
+    @Override
+    public void end() {
+        if (mRunning) {
+            mRunning = false;
+            mBuilder.mSliderView.animate().cancel();
+            mSlideUp.onAnimationValue(mTo);
+            mSlideUp.onSlideAnimationEnd();
+        }
+    }
+    
+    @Override
+    public void cancel() {
+        if (mRunning) {
+            mRunning = false;
+            mBuilder.mSliderView.animate().cancel();
+            // translation seen by the main thread may lag behind RenderThread, so the sampled value is applied
+            mSlideUp.onAnimationValue(getCurrentValue());
+            mSlideUp.onSlideAnimationCancel();
+            mSlideUp.onSlideAnimationEnd();
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return mRunning;
+    }
+    
+    @Override
+    public void paramsChanged() {
+        if (mCurve != null) {
+            mCurve.setStiffness(mBuilder.mSpringStiffness);
+        }
+    }
+    
+    @Override
+    public void release() {
+        mRunning = false;
+        mBuilder.mSliderView.animate().cancel();
+        if (mPosted) {
+            mPosted = false;
+            Choreographer.getInstance().removeFrameCallback(this);
+        }
+    }
+    
+    /**
+     * <p>Called by {@link Choreographer}, samples progress of the animation running on RenderThread</p>
+     */
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        mPosted = false;
+        if (!mRunning) {
+            return;
+        }
+        if (mStartTimeNanos < 0) {
+            mStartTimeNanos = frameTimeNanos;
+        }
+        long playTime = (frameTimeNanos - mStartTimeNanos) / 1000000;
+        mFraction = mDuration > 0 ? Math.min(1f, (float) playTime / mDuration) : 1f;
+        if (mFraction >= 1) {
+            mRunning = false;
+            mSlideUp.onAnimationValue(mTo);
+            mSlideUp.onSlideAnimationEnd();
+            return;
+        }
+        mSlideUp.onAnimationSample(getCurrentValue());
+        // listeners may restart or stop the animation while the value is sampled
+        if (mRunning && !mPosted) {
+            mPosted = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+    
+    private float getCurrentValue() {
+        return mFrom + (mTo - mFrom) * mInterpolator.getInterpolation(mFraction);
+    }
+}
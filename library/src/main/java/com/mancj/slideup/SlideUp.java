@@ -3,14 +3,19 @@ package com.mancj.slideup;
 import android.animation.Animator;
 import android.animation.TimeInterpolator;
 import android.animation.ValueAnimator;
+import android.app.Activity;
 import android.content.Context;
+import android.os.Build;
 import android.os.Bundle;
 import android.os.IBinder;
 import android.support.annotation.IntDef;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.util.Log;
 import android.view.MotionEvent;
 import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewStub;
 import android.view.inputmethod.InputMethodManager;
 
 import java.lang.annotation.Retention;
@@ -22,10 +27,11 @@ import static android.view.Gravity.START;
 import static android.view.Gravity.TOP;
 import static android.view.View.GONE;
 import static android.view.View.VISIBLE;
+import static com.mancj.slideup.SlideUp.State.ANCHORED;
 import static com.mancj.slideup.SlideUp.State.HIDDEN;
 import static com.mancj.slideup.SlideUp.State.SHOWED;
 
-public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpdateListener, Animator.AnimatorListener, LoggerNotifier {
+public class SlideUp implements View.OnTouchListener, View.OnLayoutChangeListener, ValueAnimator.AnimatorUpdateListener, Animator.AnimatorListener, LoggerNotifier {
     private final static String TAG = SlideUp.class.getSimpleName();
     
     final static String KEY_START_GRAVITY = TAG + "_start_gravity";
@@ -35,6 +41,7 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
     final static String KEY_AUTO_SLIDE_DURATION = TAG + "_auto_slide_duration";
     final static String KEY_HIDE_SOFT_INPUT = TAG + "_hide_soft_input";
     final static String KEY_STATE_SAVED = TAG + "_state_saved";
+    final static String KEY_SAVED_STATE = TAG + "_saved_state";
     
     /**
      * <p>Available start states</p>
@@ -49,7 +56,13 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
         /**
          * State showed is equal {@link View#VISIBLE}
          */
-        SHOWED
+        SHOWED,
+        
+        /**
+         * Slider is stopped at one of anchors defined by {@link SlideUpBuilder#withAnchorsPx(float...)}
+         * or {@link SlideUpBuilder#withAnchorFractions(float...)}, it is partially {@link View#VISIBLE}
+         */
+        ANCHORED
     }
     
     @IntDef(value = {START, END, TOP, BOTTOM})
@@ -57,7 +70,86 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
     @interface StartVector {
     }
     
+    /**
+     * <p>Slider is never switched to hardware layer while moving</p>
+     */
+    public static final int MOTION_LAYER_NONE = 0;
+    
+    /**
+     * <p>Slider is always switched to hardware layer while moving</p>
+     */
+    public static final int MOTION_LAYER_ALWAYS = 1;
+    
+    /**
+     * <p>Slider is switched to hardware layer while moving only if it is a large enough {@link android.view.ViewGroup}</p>
+     */
+    public static final int MOTION_LAYER_AUTO = 2;
+    
+    @IntDef(value = {MOTION_LAYER_NONE, MOTION_LAYER_ALWAYS, MOTION_LAYER_AUTO})
+    @Retention(RetentionPolicy.SOURCE)
+    @interface MotionLayer {
+    }
+    
+    /**
+     * <p>Property {@link View#setAlpha(float)} bound by {@link SlideUpBuilder#withBinding(View, int, float, float)}</p>
+     */
+    public static final int PROPERTY_ALPHA = 0;
+    
+    /**
+     * <p>Property {@link View#setTranslationX(float)} bound by {@link SlideUpBuilder#withBinding(View, int, float, float)}</p>
+     */
+    public static final int PROPERTY_TRANSLATION_X = 1;
+    
+    /**
+     * <p>Property {@link View#setTranslationY(float)} bound by {@link SlideUpBuilder#withBinding(View, int, float, float)}</p>
+     */
+    public static final int PROPERTY_TRANSLATION_Y = 2;
+    
+    /**
+     * <p>Property {@link View#setScaleX(float)} bound by {@link SlideUpBuilder#withBinding(View, int, float, float)}</p>
+     */
+    public static final int PROPERTY_SCALE_X = 3;
+    
+    /**
+     * <p>Property {@link View#setScaleY(float)} bound by {@link SlideUpBuilder#withBinding(View, int, float, float)}</p>
+     */
+    public static final int PROPERTY_SCALE_Y = 4;
+    
+    /**
+     * <p>Property {@link View#setRotation(float)} bound by {@link SlideUpBuilder#withBinding(View, int, float, float)}</p>
+     */
+    public static final int PROPERTY_ROTATION = 5;
+    
+    @IntDef(value = {PROPERTY_ALPHA, PROPERTY_TRANSLATION_X, PROPERTY_TRANSLATION_Y, PROPERTY_SCALE_X, PROPERTY_SCALE_Y, PROPERTY_ROTATION})
+    @Retention(RetentionPolicy.SOURCE)
+    @interface BoundProperty {
+    }
+    
+    /**
+     * <p>Content is inflated on the background thread when slider is showed or touched for the first time</p>
+     */
+    public static final int CONTENT_INFLATE_ON_DEMAND = 0;
+    
+    /**
+     * <p>Content is inflated on the background thread right after {@link SlideUpBuilder#build()}</p>
+     */
+    public static final int CONTENT_INFLATE_ASYNC = 1;
+    
+    @IntDef(value = {CONTENT_INFLATE_ON_DEMAND, CONTENT_INFLATE_ASYNC})
+    @Retention(RetentionPolicy.SOURCE)
+    @interface ContentInflation {
+    }
+    
+    /**
+     * Measure spec which can't be calculated before the layout pass
+     */
+    private static final int UNKNOWN_MEASURE_SPEC = -1;
+    
     private State mCurrentState;
+    private int mAnchorIndex = -1;
+    private boolean mAnimationCancelled;
+    private float mLastPercent = Float.NaN;
+    private int mLastVisibility = -1;
     
     private float mViewHeight;
     private float mViewWidth;
@@ -68,6 +160,18 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
     private HorizontalTouchConsumer mHorizontalTouchConsumer;
     
     private AnimationProcessor mAnimationProcessor;
+    private MotionLayerController mMotionLayerController;
+    private FrameMonitor mFrameMonitor;
+    private GestureRecorder mGestureRecorder;
+    private SoftInputCoordinator mSoftInputCoordinator;
+    private LazyContent mLazyContent;
+    private OnGlobalLayoutSingleListener mLayoutListener;
+    private HostLifecycleBinder mLifecycleBinder;
+    private boolean mReleased;
+    private boolean mHostStopped;
+    private boolean mLayoutDeferred;
+    private boolean mTouchableAreaAuto;
+    private float mPendingPercent = Float.NaN;
     
     /**
      * <p>Interface to listen to all handled events taking place in the slider</p>
@@ -94,72 +198,256 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
         }
     }
     
+    /**
+     * <p>Interface to listen to inflation of content defined by {@link SlideUpBuilder#withContentLayout(int, int)}
+     * or {@link SlideUpBuilder#withContentStub(ViewStub, int)}</p>
+     */
+    public interface OnContentInflatedListener {
+        
+        /**
+         * <p>Called on the main thread when content is inflated and added to slider</p>
+         */
+        void onContentInflated(@NonNull View content);
+    }
+    
     SlideUp(SlideUpBuilder builder) {
         mBuilder = builder;
         init();
     }
     
     private void init() {
-        mBuilder.mSliderView.setOnTouchListener(this);
+        mMotionLayerController = new MotionLayerController(mBuilder);
+        mSoftInputCoordinator = new SoftInputCoordinator(this, mBuilder);
+        if (mBuilder.mFrameStatsListener != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            mFrameMonitor = new FrameMonitor(this, mBuilder.mSliderView, mBuilder.mFrameStatsListener);
+        }
+        if (mBuilder.mSliderView instanceof SlideUpLayout) {
+            // layout passes touch events by itself, children of slider receive them as usual
+            ((SlideUpLayout) mBuilder.mSliderView).setSlideUp(this);
+        } else {
+            mBuilder.mSliderView.setOnTouchListener(this);
+        }
+        mBuilder.mSliderView.addOnLayoutChangeListener(this);
         if(mBuilder.mAlsoScrollView != null) {
             mBuilder.mAlsoScrollView.setOnTouchListener(this);
         }
         createAnimation();
-        mBuilder.mSliderView.getViewTreeObserver().addOnGlobalLayoutListener(
-                new OnGlobalLayoutSingleListener(mBuilder.mSliderView, new Runnable() {
-                    @Override
-                    public void run() {
-                        
-                        mViewHeight = mBuilder.mSliderView.getHeight();
-                        mViewWidth = mBuilder.mSliderView.getWidth();
-                        switch (mBuilder.mStartGravity) {
-                            case TOP:
-                                mBuilder.mSliderView.setPivotY(mViewHeight);
-                                setTouchableAreaVertical();
-                                break;
-                            case BOTTOM:
-                                mBuilder.mSliderView.setPivotY(0);
-                                setTouchableAreaVertical();
-                                break;
-                            case START:
-                                mBuilder.mSliderView.setPivotX(0);
-                                setTouchableAreaHorizontal();
-                                break;
-                            case END:
-                                mBuilder.mSliderView.setPivotX(mViewWidth);
-                                setTouchableAreaHorizontal();
-                                break;
-                        }
-                        createConsumers();
-                        updateToCurrentState();
-                    }
-                }));
+        if (mBuilder.mContentLayout != 0 || mBuilder.mContentStub != null) {
+            mLazyContent = new LazyContent(mBuilder);
+            if (mBuilder.mContentInflation == CONTENT_INFLATE_ASYNC) {
+                mLazyContent.inflateAsync();
+            }
+        }
+        mLayoutListener = new OnGlobalLayoutSingleListener(mBuilder.mSliderView, new Runnable() {
+            @Override
+            public void run() {
+                if (mHostStopped) {
+                    mLayoutDeferred = true;
+                    return;
+                }
+                onSliderLayout();
+            }
+        });
+        mBuilder.mSliderView.getViewTreeObserver().addOnGlobalLayoutListener(mLayoutListener);
+        if (mBuilder.mLifecycleBinding) {
+            Activity activity = Internal.findActivity(mBuilder.mSliderView.getContext());
+            if (activity != null) {
+                mLifecycleBinder = new HostLifecycleBinder(this, activity);
+                mLifecycleBinder.bind();
+            }
+        }
+        if (!mBuilder.mPreMeasure || !preMeasure()) {
+            updateToCurrentState();
+        }
+    }
+    
+    private void onSliderLayout() {
+        View view = mBuilder.mSliderView;
+        if (mVerticalTouchConsumer != null) {
+            // slider was pre-measured, it is placed again only if the real size differs,
+            // hidden slider is GONE and isn't laid out at all, so its pre-measured size is kept
+            if (view.getWidth() > 0 && view.getHeight() > 0) {
+                resize(view.getWidth(), view.getHeight());
+            }
+            return;
+        }
+        applyLayout(view.getWidth(), view.getHeight());
+    }
+    
+    /**
+     * <p>Measures slider against constraints of its parent before the first layout pass,
+     * so pivots, touchable area and translation of the start state are set before the first frame</p>
+     *
+     * @return false if constraints of slider aren't known yet, then slider waits for the layout pass
+     */
+    private boolean preMeasure() {
+        View view = mBuilder.mSliderView;
+        if (view.getWidth() > 0 && view.getHeight() > 0) {
+            applyLayout(view.getWidth(), view.getHeight());
+            return true;
+        }
+        ViewGroup.LayoutParams params = view.getLayoutParams();
+        if (params == null || !(view.getParent() instanceof ViewGroup)) {
+            return false;
+        }
+        ViewGroup parent = (ViewGroup) view.getParent();
+        int horizontalPadding = parent.getPaddingLeft() + parent.getPaddingRight();
+        int verticalPadding = parent.getPaddingTop() + parent.getPaddingBottom();
+        if (params instanceof ViewGroup.MarginLayoutParams) {
+            ViewGroup.MarginLayoutParams margins = (ViewGroup.MarginLayoutParams) params;
+            horizontalPadding += margins.leftMargin + margins.rightMargin;
+            verticalPadding += margins.topMargin + margins.bottomMargin;
+        }
+        int parentWidth = parent.getWidth() > 0 ? parent.getWidth() : parent.getMeasuredWidth();
+        int parentHeight = parent.getHeight() > 0 ? parent.getHeight() : parent.getMeasuredHeight();
+        int widthSpec = getPreMeasureSpec(parentWidth, horizontalPadding, params.width);
+        int heightSpec = getPreMeasureSpec(parentHeight, verticalPadding, params.height);
+        if (widthSpec == UNKNOWN_MEASURE_SPEC || heightSpec == UNKNOWN_MEASURE_SPEC) {
+            return false;
+        }
+        view.measure(widthSpec, heightSpec);
+        if (view.getMeasuredWidth() <= 0 || view.getMeasuredHeight() <= 0) {
+            return false;
+        }
+        applyLayout(view.getMeasuredWidth(), view.getMeasuredHeight());
+        return true;
+    }
+    
+    private static int getPreMeasureSpec(int parentSize, int padding, int childDimension) {
+        if (parentSize > 0) {
+            return ViewGroup.getChildMeasureSpec(View.MeasureSpec.makeMeasureSpec(parentSize, View.MeasureSpec.EXACTLY), padding, childDimension);
+        }
+        if (childDimension >= 0) {
+            return View.MeasureSpec.makeMeasureSpec(childDimension, View.MeasureSpec.EXACTLY);
+        }
+        return UNKNOWN_MEASURE_SPEC;
+    }
+    
+    private void applyLayout(float width, float height) {
+        mViewHeight = height;
+        mViewWidth = width;
+        updateGeometry();
+        if (mVerticalTouchConsumer == null) {
+            createConsumers();
+        }
         updateToCurrentState();
     }
     
+    /**
+     * <p>Updates geometry of already placed slider in place when its size is changed,
+     * slider at rest is moved to the same state, running animation is continued to the same state</p>
+     */
+    private void resize(float width, float height) {
+        if (width == mViewWidth && height == mViewHeight) {
+            return;
+        }
+        float oldSize = getSlideSize();
+        float oldTarget = mAnimationProcessor.getSlideAnimationTo();
+        int targetAnchor = mBuilder.mAnchors.indexOf(oldTarget);
+        // slider which isn't at its rest position is dragged, it is settled by the gesture
+        boolean atRest = isAtRestPosition(getSlidePosition(), oldSize);
+        mViewHeight = height;
+        mViewWidth = width;
+        updateGeometry();
+        float size = getSlideSize();
+        if (size == oldSize) {
+            return;
+        }
+        if (mAnimationProcessor.isAnimationRunning()) {
+            float target;
+            if (oldTarget >= oldSize) {
+                // hidden position of TOP gravity is beyond the size by the top of slider
+                target = oldTarget - oldSize + size;
+            } else if (targetAnchor >= 0 && targetAnchor < mBuilder.mAnchors.getCount()) {
+                target = mBuilder.mAnchors.getPosition(targetAnchor);
+            } else if (targetAnchor >= 0) {
+                target = 0;
+            } else {
+                target = oldTarget * size / oldSize;
+            }
+            if (target != oldTarget) {
+                mAnimationProcessor.retarget(getSlidePosition(), target);
+            }
+            return;
+        }
+        if (atRest) {
+            setSlidePosition(getRestPosition(size), size);
+        }
+    }
+    
+    /**
+     * <p>Returns true if slider is placed at position of the last state where it was stopped</p>
+     */
+    private boolean isAtRestPosition(float position, float size) {
+        float rest = getRestPosition(size);
+        // hidden slider of TOP gravity may rest beyond the size by the top of slider
+        return position == rest || rest == size && position > size;
+    }
+    
+    /**
+     * <p>Returns position of the last state where slider was stopped, anchors must be laid out for the given size</p>
+     */
+    private float getRestPosition(float size) {
+        switch (getState()) {
+            case HIDDEN:
+                return size;
+            case ANCHORED:
+                return mAnchorIndex < mBuilder.mAnchors.getCount() ? mBuilder.mAnchors.getPosition(mAnchorIndex) : 0;
+            default:
+                return 0;
+        }
+    }
+    
+    private void updateGeometry() {
+        switch (mBuilder.mStartGravity) {
+            case TOP:
+                mBuilder.mSliderView.setPivotY(mViewHeight);
+                setTouchableAreaVertical();
+                break;
+            case BOTTOM:
+                mBuilder.mSliderView.setPivotY(0);
+                setTouchableAreaVertical();
+                break;
+            case START:
+                mBuilder.mSliderView.setPivotX(0);
+                setTouchableAreaHorizontal();
+                break;
+            case END:
+                mBuilder.mSliderView.setPivotX(mViewWidth);
+                setTouchableAreaHorizontal();
+                break;
+        }
+        mBuilder.mAnchors.layout(getSlideSize());
+    }
+    
     private void setTouchableAreaHorizontal(){
-        if (mBuilder.mTouchableArea == 0) {
+        if (mBuilder.mTouchableArea == 0 || mTouchableAreaAuto) {
             mBuilder.mTouchableArea = (float) Math.ceil(mViewWidth / 10);
+            mTouchableAreaAuto = true;
         }
     }
     
     private void setTouchableAreaVertical(){
-        if (mBuilder.mTouchableArea == 0) {
+        if (mBuilder.mTouchableArea == 0 || mTouchableAreaAuto) {
             mBuilder.mTouchableArea = (float) Math.ceil(mViewHeight / 10);
+            mTouchableAreaAuto = true;
         }
     }
     
     private void createAnimation() {
-        mAnimationProcessor = new AnimationProcessor(mBuilder, this, this);
+        mAnimationProcessor = new AnimationProcessor(mBuilder, this);
     }
     
     private void createConsumers() {
-        createAnimation();
-        mVerticalTouchConsumer = new VerticalTouchConsumer(mBuilder, this, mAnimationProcessor);
-        mHorizontalTouchConsumer = new HorizontalTouchConsumer(mBuilder, this, mAnimationProcessor);
+        mVerticalTouchConsumer = new VerticalTouchConsumer(mBuilder, this, mAnimationProcessor, mMotionLayerController);
+        mHorizontalTouchConsumer = new HorizontalTouchConsumer(mBuilder, this, mAnimationProcessor, mMotionLayerController);
     }
     
     private void updateToCurrentState() {
+        if (!Float.isNaN(mBuilder.mStartProgress)) {
+            restoreProgress();
+            return;
+        }
         switch (mBuilder.mStartState) {
             case HIDDEN:
                 hideImmediately();
@@ -167,6 +455,79 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
             case SHOWED:
                 showImmediately();
                 break;
+            case ANCHORED:
+                float size = getSlideSize();
+                if (size <= 0) {
+                    break;
+                }
+                mBuilder.mAnchors.layout(size);
+                if (mBuilder.mStartAnchor < mBuilder.mAnchors.getCount()) {
+                    anchorImmediately(mBuilder.mStartAnchor);
+                } else {
+                    showImmediately();
+                }
+                break;
+        }
+    }
+    
+    /**
+     * <p>Places slider exactly where it was stopped between states before its state was saved</p>
+     */
+    private void restoreProgress() {
+        float size = getSlideSize();
+        if (size <= 0) {
+            return;
+        }
+        float progress = mBuilder.mStartProgress;
+        mBuilder.mStartProgress = Float.NaN;
+        mBuilder.mAnchors.layout(size);
+        setSlidePosition(progress * size, size);
+        mCurrentState = mBuilder.mStartState;
+        if (mCurrentState == ANCHORED) {
+            mAnchorIndex = mBuilder.mStartAnchor;
+        }
+    }
+    
+    /**
+     * <p>Returns position of slider (0 = showed, 1 = hidden) if it is stopped between states by the gesture, otherwise NaN</p>
+     */
+    private float getProgress() {
+        float size = getSlideSize();
+        if (size <= 0 || mVerticalTouchConsumer == null) {
+            return Float.NaN;
+        }
+        float position = getSlidePosition();
+        if (isAtRestPosition(position, size)) {
+            return Float.NaN;
+        }
+        return Math.max(0, Math.min(position / size, 1));
+    }
+    
+    /**
+     * <p>Saves the state where the running animation stops instead of the current state</p>
+     */
+    private void saveAnimationTarget(SlideUpSavedState savedState) {
+        float target = mAnimationProcessor.getSlideAnimationTo();
+        int anchor = mBuilder.mAnchors.indexOf(target);
+        if (anchor >= 0) {
+            savedState.mState = ANCHORED.ordinal();
+            savedState.mAnchor = anchor;
+        } else if (target == 0) {
+            savedState.mState = SHOWED.ordinal();
+            savedState.mAnchor = -1;
+        } else if (target >= getSlideSize()) {
+            savedState.mState = HIDDEN.ordinal();
+            savedState.mAnchor = -1;
+        }
+    }
+    
+    float getSlideSize() {
+        switch (mBuilder.mStartGravity) {
+            case TOP:
+            case BOTTOM:
+                return mViewHeight;
+            default:
+                return mViewWidth;
         }
     }
     
@@ -207,6 +568,14 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
         mBuilder.mListeners.add(listener);
     }
     
+    /**
+     * <p>Add Listener which will be used in combination with this SlideUp and held by weak reference,
+     * so it doesn't keep alive its owner, e.g. destroyed {@link android.app.Activity}</p>
+     */
+    public void addWeakSlideListener(@NonNull Listener listener) {
+        mBuilder.mListeners.addWeak(listener);
+    }
+    
     /**
      * <p>Remove Listener which was used in combination with this SlideUp</p>
      */
@@ -244,6 +613,7 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
      * @param touchableArea <b>(default - <b color="#EF6C00">300dp</b>)</b>
      */
     public void setTouchableAreaDp(float touchableArea) {
+        mTouchableAreaAuto = false;
         mBuilder.withTouchableAreaDp(touchableArea);
     }
     
@@ -253,6 +623,7 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
      * @param touchableArea <b>(default - <b color="#EF6C00">300dp</b>)</b>
      */
     public void setTouchableAreaPx(float touchableArea) {
+        mTouchableAreaAuto = false;
         mBuilder.withTouchableAreaPx(touchableArea);
     }
     
@@ -307,6 +678,73 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
         show(true);
     }
     
+    /**
+     * <p>Move view to anchor with animation</p>
+     *
+     * @param index index of anchor, anchors are ordered from the smallest visible part of slider to the largest
+     */
+    public void anchor(int index) {
+        anchor(index, false);
+    }
+    
+    /**
+     * <p>Move view to anchor without animation</p>
+     *
+     * @param index index of anchor, anchors are ordered from the smallest visible part of slider to the largest
+     */
+    public void anchorImmediately(int index) {
+        anchor(index, true);
+    }
+    
+    /**
+     * <p>Returns count of anchors which fit into the slider, it is known only after the layout of slider</p>
+     */
+    public int getAnchorCount() {
+        return mBuilder.mAnchors.getCount();
+    }
+    
+    /**
+     * <p>Returns index of anchor where slider is stopped or -1 if state isn't {@link State#ANCHORED}</p>
+     */
+    public int getAnchorIndex() {
+        return mCurrentState == ANCHORED ? mAnchorIndex : -1;
+    }
+    
+    /**
+     * <p>Returns the last state where slider was stopped</p>
+     */
+    public State getState() {
+        return mCurrentState != null ? mCurrentState : mBuilder.mStartState;
+    }
+    
+    /**
+     * <p>Returns true if content defined by {@link SlideUpBuilder#withContentLayout(int, int)}
+     * or {@link SlideUpBuilder#withContentStub(ViewStub, int)} is added to slider or if there is no such content</p>
+     */
+    public boolean isContentInflated() {
+        return mLazyContent == null || mLazyContent.isInflated();
+    }
+    
+    /**
+     * <p>Returns content defined by {@link SlideUpBuilder#withContentLayout(int, int)}
+     * or {@link SlideUpBuilder#withContentStub(ViewStub, int)}, or null if it isn't inflated yet</p>
+     */
+    @Nullable
+    public View getContentView() {
+        return mLazyContent != null ? mLazyContent.getContent() : null;
+    }
+    
+    /**
+     * <p>Inflates content defined by {@link SlideUpBuilder#withContentLayout(int, int)}
+     * or {@link SlideUpBuilder#withContentStub(ViewStub, int)} on the main thread right now
+     * if it isn't inflated yet, e.g. when content is required to restore the state of screen</p>
+     */
+    public void inflateContent() {
+        if (mLazyContent != null) {
+            mLazyContent.inflateNow();
+        }
+    }
+    
     /**
      * <p>Turning on/off debug logging</p>
      *
@@ -402,38 +840,166 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
         }
     }
     
+    /**
+     * <p>Returns frame timing of the last finished gesture or null if there is no such gesture
+     * or frame monitoring wasn't enabled by {@link SlideUpBuilder#withFrameStatsListener(FrameStats.Listener)}</p>
+     */
+    @Nullable
+    public FrameStats getLastFrameStats() {
+        return mFrameMonitor != null ? mFrameMonitor.getLastStats() : null;
+    }
+    
+    /**
+     * <p>Releases SlideUp: removes touch listeners and pending layout listener from views,
+     * stops animation and removes all listeners. SlideUp can't be used after that,
+     * call it when the slider is destroyed, e.g. in {@code Activity#onDestroy()}</p>
+     */
+    public void release() {
+        if (mReleased) {
+            return;
+        }
+        mReleased = true;
+        if (mLifecycleBinder != null) {
+            mLifecycleBinder.unbind();
+        }
+        mLayoutListener.cancel();
+        mBuilder.mSliderView.setOnTouchListener(null);
+        mBuilder.mSliderView.removeOnLayoutChangeListener(this);
+        if (mBuilder.mAlsoScrollView != null) {
+            mBuilder.mAlsoScrollView.setOnTouchListener(null);
+        }
+        if (mBuilder.mSliderView instanceof SlideUpLayout) {
+            ((SlideUpLayout) mBuilder.mSliderView).setSlideUp(null);
+        }
+        mAnimationProcessor.release();
+        if (mVerticalTouchConsumer != null) {
+            mVerticalTouchConsumer.release();
+            mHorizontalTouchConsumer.release();
+        }
+        mMotionLayerController.release();
+        if (mFrameMonitor != null) {
+            mFrameMonitor.stop();
+        }
+        if (mLazyContent != null) {
+            mLazyContent.release();
+        }
+        mGestureRecorder = null;
+        mBuilder.mListeners.clear();
+        mBuilder.mBindings.clear();
+    }
+    
+    /**
+     * <p>Should be called when the host of slider (e.g. {@link Activity}) is stopped,
+     * running animation jumps to its end, listeners aren't notified and layout of slider is deferred
+     * until {@link #onHostStarted()}. Called automatically if {@link SlideUpBuilder#withLifecycleBinding(boolean)} is used</p>
+     */
+    public void onHostStopped() {
+        if (mHostStopped) {
+            return;
+        }
+        mHostStopped = true;
+        mAnimationProcessor.endAnimation();
+    }
+    
+    /**
+     * <p>Should be called when the host of slider (e.g. {@link Activity}) is started again,
+     * deferred layout is done and listeners are notified about the current state of slider once</p>
+     */
+    public void onHostStarted() {
+        if (!mHostStopped) {
+            return;
+        }
+        mHostStopped = false;
+        if (mLayoutDeferred) {
+            mLayoutDeferred = false;
+            onSliderLayout();
+        }
+        if (!Float.isNaN(mPendingPercent)) {
+            float percent = mPendingPercent;
+            mPendingPercent = Float.NaN;
+            dispatchPercentChanged(percent);
+        }
+    }
+    
+    /**
+     * <p>Returns true if the host of slider is stopped</p>
+     */
+    public boolean isHostStopped() {
+        return mHostStopped;
+    }
+    
+    /**
+     * <p>Returns true if {@link #release()} was called</p>
+     */
+    public boolean isReleased() {
+        return mReleased;
+    }
+    
+    void setGestureRecorder(GestureRecorder recorder) {
+        mGestureRecorder = recorder;
+    }
+    
+    View getAlsoScrollView() {
+        return mBuilder.mAlsoScrollView;
+    }
+    
     /**
      * <p>Saving current parameters of SlideUp</p>
+     *
+     * @see #onSaveInstanceState()
      */
     public void onSaveInstanceState(@NonNull Bundle savedState) {
-        savedState.putBoolean(KEY_STATE_SAVED, true);
-        savedState.putInt(KEY_START_GRAVITY, mBuilder.mStartGravity);
-        savedState.putBoolean(KEY_DEBUG, mBuilder.mDebug);
-        savedState.putFloat(KEY_TOUCHABLE_AREA, mBuilder.mTouchableArea / mBuilder.mDensity);
-        savedState.putSerializable(KEY_STATE, mCurrentState);
-        savedState.putInt(KEY_AUTO_SLIDE_DURATION, mBuilder.mAutoSlideDuration);
-        savedState.putBoolean(KEY_HIDE_SOFT_INPUT, mBuilder.mHideKeyboard);
+        savedState.putParcelable(KEY_SAVED_STATE, onSaveInstanceState());
+    }
+    
+    /**
+     * <p>Saving current parameters and position of SlideUp, position is saved exactly
+     * even if slider is stopped between states by the gesture. Running animation is saved as the state where it stops</p>
+     */
+    @NonNull
+    public SlideUpSavedState onSaveInstanceState() {
+        SlideUpSavedState savedState = new SlideUpSavedState();
+        savedState.mStartGravity = mBuilder.mStartGravity;
+        savedState.mDebug = mBuilder.mDebug;
+        savedState.mTouchableAreaDp = mBuilder.mTouchableArea / mBuilder.mDensity;
+        savedState.mState = getState().ordinal();
+        savedState.mAnchor = getState() == ANCHORED ? mAnchorIndex : -1;
+        savedState.mAutoSlideDuration = mBuilder.mAutoSlideDuration;
+        savedState.mHideSoftInput = mBuilder.mHideKeyboard;
+        if (mAnimationProcessor.isAnimationRunning()) {
+            // nothing restarts the animation after restore, so slider is restored right at its target
+            saveAnimationTarget(savedState);
+        } else {
+            savedState.mProgress = getProgress();
+        }
+        return savedState;
     }
     //endregion
     
     private void hide(boolean immediately) {
-        mAnimationProcessor.endAnimation();
+        mBuilder.mStartProgress = Float.NaN;
+        if (mHostStopped) {
+            immediately = true;
+        }
+        if (immediately) {
+            mAnimationProcessor.endAnimation();
+        }
         switch (mBuilder.mStartGravity) {
             case TOP:
                 if (immediately) {
-                    if (mBuilder.mSliderView.getHeight() > 0) {
+                    if (mViewHeight > 0) {
                         mBuilder.mSliderView.setTranslationY(-mViewHeight);
                         notifyPercentChanged(100);
                     } else {
                         mBuilder.mStartState = HIDDEN;
                     }
                 } else {
-                    mAnimationProcessor.setValuesAndStart(mBuilder.mSliderView.getTranslationY(), mBuilder.mSliderView.getHeight());
+                    mAnimationProcessor.setValuesAndStart(-mBuilder.mSliderView.getTranslationY(), mBuilder.mSliderView.getHeight());
                 }
                 break;
             case BOTTOM:
                 if (immediately) {
-                    if (mBuilder.mSliderView.getHeight() > 0) {
+                    if (mViewHeight > 0) {
                         mBuilder.mSliderView.setTranslationY(mViewHeight);
                         notifyPercentChanged(100);
                     } else {
@@ -445,48 +1011,58 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
                 break;
             case START:
                 if (immediately) {
-                    if (mBuilder.mSliderView.getWidth() > 0) {
+                    if (mViewWidth > 0) {
                         mBuilder.mSliderView.setTranslationX(-mViewWidth);
                         notifyPercentChanged(100);
                     } else {
                         mBuilder.mStartState = HIDDEN;
                     }
                 } else {
-                    mAnimationProcessor.setValuesAndStart(mBuilder.mSliderView.getTranslationX(), mBuilder.mSliderView.getHeight());
+                    mAnimationProcessor.setValuesAndStart(-mBuilder.mSliderView.getTranslationX(), mBuilder.mSliderView.getWidth());
                 }
                 break;
             case END:
                 if (immediately) {
-                    if (mBuilder.mSliderView.getWidth() > 0) {
+                    if (mViewWidth > 0) {
                         mBuilder.mSliderView.setTranslationX(mViewWidth);
                         notifyPercentChanged(100);
                     } else {
                         mBuilder.mStartState = HIDDEN;
                     }
                 } else {
-                    mAnimationProcessor.setValuesAndStart(mBuilder.mSliderView.getTranslationX(), mBuilder.mSliderView.getHeight());
+                    mAnimationProcessor.setValuesAndStart(mBuilder.mSliderView.getTranslationX(), mBuilder.mSliderView.getWidth());
                 }
                 break;
         }
     }
     
     private void show(boolean immediately) {
-        mAnimationProcessor.endAnimation();
+        mBuilder.mStartProgress = Float.NaN;
+        if (mLazyContent != null) {
+            mLazyContent.inflateAsync();
+        }
+        if (mHostStopped) {
+            immediately = true;
+        }
+        if (immediately) {
+            mAnimationProcessor.endAnimation();
+        }
         switch (mBuilder.mStartGravity) {
             case TOP:
                 if (immediately) {
-                    if (mBuilder.mSliderView.getHeight() > 0) {
+                    if (mViewHeight > 0) {
                         mBuilder.mSliderView.setTranslationY(0);
                         notifyPercentChanged(0);
                     } else {
                         mBuilder.mStartState = SHOWED;
                     }
                 } else {
-                    mAnimationProcessor.setValuesAndStart(mBuilder.mSliderView.getTranslationY(), 0);
+                    mAnimationProcessor.setValuesAndStart(-mBuilder.mSliderView.getTranslationY(), 0);
                 }
+                break;
             case BOTTOM:
                 if (immediately) {
-                    if (mBuilder.mSliderView.getHeight() > 0) {
+                    if (mViewHeight > 0) {
                         mBuilder.mSliderView.setTranslationY(0);
                         notifyPercentChanged(0);
                     } else {
@@ -498,18 +1074,19 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
                 break;
             case START:
                 if (immediately) {
-                    if (mBuilder.mSliderView.getWidth() > 0) {
+                    if (mViewWidth > 0) {
                         mBuilder.mSliderView.setTranslationX(0);
                         notifyPercentChanged(0);
                     } else {
                         mBuilder.mStartState = SHOWED;
                     }
                 } else {
-                    mAnimationProcessor.setValuesAndStart(mBuilder.mSliderView.getTranslationX(), 0);
+                    mAnimationProcessor.setValuesAndStart(-mBuilder.mSliderView.getTranslationX(), 0);
                 }
+                break;
             case END:
                 if (immediately) {
-                    if (mBuilder.mSliderView.getWidth() > 0) {
+                    if (mViewWidth > 0) {
                         mBuilder.mSliderView.setTranslationX(0);
                         notifyPercentChanged(0);
                     } else {
@@ -522,9 +1099,167 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
         }
     }
     
+    private void anchor(int index, boolean immediately) {
+        mBuilder.mStartProgress = Float.NaN;
+        if (mLazyContent != null) {
+            mLazyContent.inflateAsync();
+        }
+        if (mHostStopped) {
+            immediately = true;
+        }
+        float size = getSlideSize();
+        if (size <= 0) {
+            if (immediately) {
+                mBuilder.mStartState = ANCHORED;
+                mBuilder.mStartAnchor = index;
+            }
+            return;
+        }
+        mBuilder.mAnchors.layout(size);
+        float position = mBuilder.mAnchors.getPosition(index);
+        if (!immediately) {
+            mAnimationProcessor.setValuesAndStart(getSlidePosition(), position);
+            return;
+        }
+        mAnimationProcessor.endAnimation();
+        setSlidePosition(position, size);
+        mCurrentState = ANCHORED;
+        mAnchorIndex = index;
+    }
+    
+    private void setSlidePosition(float position, float size) {
+        switch (mBuilder.mStartGravity) {
+            case TOP:
+                mBuilder.mSliderView.setTranslationY(-position);
+                break;
+            case BOTTOM:
+                mBuilder.mSliderView.setTranslationY(position);
+                break;
+            case START:
+                mBuilder.mSliderView.setTranslationX(-position);
+                break;
+            case END:
+                mBuilder.mSliderView.setTranslationX(position);
+                break;
+        }
+        notifyPercentChanged(position * 100 / size);
+    }
+    
+    /**
+     * <p>Moves the slider by nested scrolling</p>
+     *
+     * @param delta distance towards the hidden position (in px)
+     * @return distance which the slider was actually moved, it is limited by showed and hidden positions
+     */
+    float dragBy(float delta) {
+        float size = getSlideSize();
+        float position = getSlidePosition();
+        float target = Math.max(0, Math.min(position + delta, size));
+        if (target == position) {
+            return 0;
+        }
+        // running animation is stopped only when nested scrolling actually moves the slider,
+        // a tap or a scroll of the content doesn't freeze it
+        if (mAnimationProcessor.cancelAnimation()) {
+            position = getSlidePosition();
+            target = Math.max(0, Math.min(position + delta, size));
+        }
+        setSlidePosition(target, size);
+        mMotionLayerController.onMotionStarted();
+        return target - position;
+    }
+    
+    /**
+     * <p>Settles the slider dragged by nested scrolling in the same way as after release of the touch</p>
+     *
+     * @param velocity velocity towards the hidden position (in px/s)
+     */
+    void settle(float velocity) {
+        if (mVerticalTouchConsumer == null) {
+            return;
+        }
+        float size = getSlideSize();
+        float position = getSlidePosition();
+        float settleTo;
+        switch (mBuilder.mStartGravity) {
+            case TOP:
+                settleTo = mVerticalTouchConsumer.findSettlePosition(position, size, velocity);
+                if (settleTo == size) {
+                    settleTo = size + mBuilder.mSliderView.getTop();
+                }
+                break;
+            case BOTTOM:
+                settleTo = mVerticalTouchConsumer.findSettlePosition(position, size, velocity);
+                break;
+            default:
+                settleTo = mHorizontalTouchConsumer.findSettlePosition(position, size, velocity);
+                break;
+        }
+        mAnimationProcessor.setValuesAndStart(position, settleTo, velocity);
+    }
+    
+    /**
+     * <p>Returns true if the gesture started by the {@link MotionEvent#ACTION_DOWN} can drag the slider,
+     * e.g. it was started inside of touchable area. Unlike {@link #onTouch(View, MotionEvent)} it doesn't stop the animation</p>
+     */
+    boolean canDragFrom(MotionEvent down) {
+        if (!mBuilder.mGesturesEnabled || mVerticalTouchConsumer == null) {
+            return false;
+        }
+        View sliderView = mBuilder.mSliderView;
+        switch (mBuilder.mStartGravity) {
+            case TOP:
+                return mVerticalTouchConsumer.canSlideTopToBottom(sliderView, down.getY());
+            case BOTTOM:
+                return mVerticalTouchConsumer.canSlideBottomToTop(sliderView, down.getY());
+            case START:
+                return mHorizontalTouchConsumer.canSlideStartToEnd(sliderView, down.getX());
+            default:
+                return mHorizontalTouchConsumer.canSlideEndToStart(sliderView, down.getX());
+        }
+    }
+    
+    /**
+     * <p>Starts the gesture intercepted by {@link SlideUpLayout} after touch slop: the postponed {@link MotionEvent#ACTION_DOWN}
+     * is passed first, then the gesture continues from the current position of the finger</p>
+     */
+    void startInterceptedDrag(MotionEvent down, MotionEvent event) {
+        View sliderView = mBuilder.mSliderView;
+        onTouch(sliderView, down);
+        switch (mBuilder.mStartGravity) {
+            case TOP:
+            case BOTTOM:
+                mVerticalTouchConsumer.rebaseGesture(event);
+                break;
+            default:
+                mHorizontalTouchConsumer.rebaseGesture(event);
+                break;
+        }
+        onTouch(sliderView, event);
+    }
+    
+    float getSlidePosition() {
+        switch (mBuilder.mStartGravity) {
+            case TOP:
+                return -mBuilder.mSliderView.getTranslationY();
+            case BOTTOM:
+                return mBuilder.mSliderView.getTranslationY();
+            case START:
+                return -mBuilder.mSliderView.getTranslationX();
+            default:
+                return mBuilder.mSliderView.getTranslationX();
+        }
+    }
+    
     @Override
     public final boolean onTouch(View v, MotionEvent event) {
-        if (mAnimationProcessor.isAnimationRunning()) return false;
+        if (mGestureRecorder != null) {
+            mGestureRecorder.onTouchEvent(v == mBuilder.mAlsoScrollView, event);
+        }
+        if (mLazyContent != null && event.getActionMasked() == MotionEvent.ACTION_DOWN) {
+            mLazyContent.inflateAsync();
+        }
+        if (mAnimationProcessor.isAnimationRunning() && event.getActionMasked() != MotionEvent.ACTION_DOWN) return false;
         if (!mBuilder.mGesturesEnabled){
             mBuilder.mSliderView.performClick();
             return true;
@@ -546,15 +1281,47 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
             default:
                 throw new IllegalArgumentException("You are using not supported gravity");
         }
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                if (mFrameMonitor != null) {
+                    mFrameMonitor.onTouchDown();
+                }
+                break;
+            case MotionEvent.ACTION_UP:
+            case MotionEvent.ACTION_CANCEL:
+                if (!mAnimationProcessor.isAnimationRunning()) {
+                    mMotionLayerController.onMotionFinished();
+                }
+                if (mFrameMonitor != null) {
+                    mFrameMonitor.onTouchUp(mAnimationProcessor.isAnimationRunning());
+                }
+                break;
+        }
         if (!consumed){
             mBuilder.mSliderView.performClick();
         }
         return true;
     }
     
+    @Override
+    public final void onLayoutChange(View v, int left, int top, int right, int bottom,
+                                     int oldLeft, int oldTop, int oldRight, int oldBottom) {
+        // the first layout is handled by the global layout listener, hidden slider is GONE and has no size
+        if (mVerticalTouchConsumer == null || right - left == 0 || bottom - top == 0) {
+            return;
+        }
+        resize(right - left, bottom - top);
+    }
+    
     @Override
     public final void onAnimationUpdate(ValueAnimator animation) {
-        float value = (float) animation.getAnimatedValue();
+        onAnimationValue((float) animation.getAnimatedValue());
+    }
+    
+    void onAnimationValue(float value) {
+        if (mGestureRecorder != null) {
+            mGestureRecorder.onAnimationFrame(value);
+        }
         switch (mBuilder.mStartGravity) {
             case TOP:
                 onAnimationUpdateTopToBottom(value);
@@ -571,6 +1338,16 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
         }
     }
     
+    /**
+     * <p>Notifies about progress of animation which moves the slider by itself, translation is not changed</p>
+     */
+    void onAnimationSample(float value) {
+        if (mGestureRecorder != null) {
+            mGestureRecorder.onAnimationFrame(value);
+        }
+        notifyPercentChanged(value * 100 / getSlideSize());
+    }
+    
     private void onAnimationUpdateTopToBottom(float value) {
         mBuilder.mSliderView.setTranslationY(-value);
         float visibleDistance = mBuilder.mSliderView.getTop() - mBuilder.mSliderView.getY();
@@ -612,46 +1389,65 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
         percent = percent > 100 ? 100 : percent;
         percent = percent < 0 ? 0 : percent;
         if (percent == 100) {
-            mBuilder.mSliderView.setVisibility(GONE);
-            notifyVisibilityChanged(GONE);
+            mCurrentState = HIDDEN;
+            if (mBuilder.mSliderView.getVisibility() != GONE) {
+                mBuilder.mSliderView.setVisibility(GONE);
+            }
         } else {
-            mBuilder.mSliderView.setVisibility(VISIBLE);
+            if (mBuilder.mSliderView.getVisibility() != VISIBLE) {
+                mBuilder.mSliderView.setVisibility(VISIBLE);
+            }
             if (percent == 0) {
+                mCurrentState = SHOWED;
+            }
+        }
+        if (mHostStopped) {
+            mPendingPercent = percent;
+            return;
+        }
+        dispatchPercentChanged(percent);
+    }
+    
+    private void dispatchPercentChanged(float percent) {
+        if (percent == 100) {
+            if (mLastVisibility != GONE) {
+                mLastVisibility = GONE;
+                notifyVisibilityChanged(GONE);
+            }
+        } else {
+            if (mLastVisibility == GONE) {
+                // slider may stop at anchor, so it must notify about the next hiding even if it wasn't showed fully
+                mLastVisibility = -1;
+            }
+            if (percent == 0 && mLastVisibility != VISIBLE) {
+                mLastVisibility = VISIBLE;
                 notifyVisibilityChanged(VISIBLE);
             }
         }
-        if (mAnimationProcessor.getSlideAnimationTo() == 0 && mBuilder.mHideKeyboard)
-            hideSoftInput();
-        if (!mBuilder.mListeners.isEmpty()) {
-            for (int i = 0; i < mBuilder.mListeners.size(); i++) {
-                Listener l = mBuilder.mListeners.get(i);
-                if (l != null) {
-                    if (l instanceof Listener.Slide) {
-                        Listener.Slide slide = (Listener.Slide) l;
-                        slide.onSlide(percent);
-                        logValue(i, "onSlide", percent);
-                    }
-                } else {
-                    logError(i, "onSlide");
-                }
+        if (percent == mLastPercent) {
+            return;
+        }
+        mLastPercent = percent;
+        if (!mBuilder.mBindings.isEmpty()) {
+            mBuilder.mBindings.apply(percent);
+        }
+        mSoftInputCoordinator.onPercentChanged(percent);
+        Listener.Slide[] listeners = mBuilder.mListeners.getSlideListeners();
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onSlide(percent);
+            if (mBuilder.mDebug) {
+                logValue(i, "onSlide", percent);
             }
         }
     }
     
     @Override
     public void notifyVisibilityChanged(int visibility) {
-        if (!mBuilder.mListeners.isEmpty()) {
-            for (int i = 0; i < mBuilder.mListeners.size(); i++) {
-                Listener l = mBuilder.mListeners.get(i);
-                if (l != null) {
-                    if (l instanceof Listener.Visibility) {
-                        Listener.Visibility vis = (Listener.Visibility) l;
-                        vis.onVisibilityChanged(visibility);
-                        logValue(i, "onVisibilityChanged", visibility == VISIBLE ? "VISIBLE" : visibility == GONE ? "GONE" : visibility);
-                    }
-                } else {
-                    logError(i, "onVisibilityChanged");
-                }
+        Listener.Visibility[] listeners = mBuilder.mListeners.getVisibilityListeners();
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onVisibilityChanged(visibility);
+            if (mBuilder.mDebug) {
+                logValue(i, "onVisibilityChanged", visibility == VISIBLE ? "VISIBLE" : visibility == GONE ? "GONE" : visibility);
             }
         }
         switch (visibility) {
@@ -666,14 +1462,44 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
     
     @Override
     public final void onAnimationStart(Animator animator) {
+        onSlideAnimationStart();
+    }
+    
+    void onSlideAnimationStart() {
+        mAnimationCancelled = false;
+        mMotionLayerController.onMotionStarted();
+        if (mFrameMonitor != null) {
+            mFrameMonitor.onAnimationStart();
+        }
     }
     
     @Override
     public final void onAnimationEnd(Animator animator) {
+        onSlideAnimationEnd();
+    }
+    
+    void onSlideAnimationEnd() {
+        if (!mAnimationCancelled) {
+            int anchor = mBuilder.mAnchors.indexOf(mAnimationProcessor.getSlideAnimationTo());
+            if (anchor >= 0) {
+                mCurrentState = ANCHORED;
+                mAnchorIndex = anchor;
+            }
+        }
+        mMotionLayerController.onMotionFinished();
+        if (mFrameMonitor != null) {
+            mFrameMonitor.onAnimationEnd();
+        }
     }
     
     @Override
     public final void onAnimationCancel(Animator animator) {
+        onSlideAnimationCancel();
+    }
+    
+    void onSlideAnimationCancel() {
+        mAnimationCancelled = true;
+        mMotionLayerController.onMotionFinished();
     }
     
     @Override
@@ -685,10 +1511,4 @@ public class SlideUp implements View.OnTouchListener, ValueAnimator.AnimatorUpda
             Log.e(TAG, String.format("Listener(%1s) (%2$-23s) value = %3$s", listener, method, message));
         }
     }
-    
-    private void logError(int listener, String method) {
-        if (mBuilder.mDebug) {
-            Log.d(TAG, String.format("Listener(%1s) (%2$-23s) Listener is null, skip notification...", listener, method));
-        }
-    }
 }
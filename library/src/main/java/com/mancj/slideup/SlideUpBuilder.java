@@ -2,10 +2,13 @@ package com.mancj.slideup;
 
 import android.animation.TimeInterpolator;
 import android.os.Bundle;
+import android.support.annotation.LayoutRes;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.view.Gravity;
 import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewStub;
 import android.view.animation.DecelerateInterpolator;
 
 import java.util.ArrayList;
@@ -23,13 +26,31 @@ public final class SlideUpBuilder {
     float mTouchableArea;
     boolean mIsRTL;
     SlideUp.State mStartState = SlideUp.State.HIDDEN;
-    List<SlideUp.Listener> mListeners = new ArrayList<>();
+    ListenerRegistry mListeners = new ListenerRegistry();
     boolean mDebug = false;
     int mAutoSlideDuration = 300;
     int mStartGravity = Gravity.BOTTOM;
     boolean mGesturesEnabled = true;
     boolean mHideKeyboard = false;
     TimeInterpolator mInterpolator = new DecelerateInterpolator();
+    boolean mSpringAnimation = false;
+    float mSpringStiffness = 1500f;
+    int mMotionLayer = SlideUp.MOTION_LAYER_NONE;
+    boolean mFrameAlignedDrag = false;
+    boolean mTouchPrediction = false;
+    FrameStats.Listener mFrameStatsListener;
+    FramePulse mFramePulse;
+    boolean mRenderThreadAnimation = false;
+    boolean mPreMeasure = false;
+    int mContentLayout;
+    ViewStub mContentStub;
+    int mContentInflation = SlideUp.CONTENT_INFLATE_ON_DEMAND;
+    SlideUp.OnContentInflatedListener mContentListener;
+    boolean mLifecycleBinding = false;
+    PropertyBindings mBindings = new PropertyBindings();
+    Anchors mAnchors = new Anchors();
+    int mStartAnchor = 0;
+    float mStartProgress = Float.NaN;
     View mAlsoScrollView;
 
     /**
@@ -89,6 +110,52 @@ public final class SlideUpBuilder {
         return withListeners(listeners_list);
     }
     
+    /**
+     * <p>Define a {@link SlideUp.Listener} for this SlideUp which are held by weak references,
+     * so they don't keep alive their owners, e.g. destroyed {@link android.app.Activity}</p>
+     *
+     * @param listeners array of listeners
+     */
+    public SlideUpBuilder withWeakListeners(@NonNull SlideUp.Listener... listeners) {
+        for (SlideUp.Listener listener : listeners) {
+            mListeners.addWeak(listener);
+        }
+        return this;
+    }
+    
+    /**
+     * <p>Bind property of the view to the slide percent by linear mapping, e.g. alpha of dim
+     * behind the slider: {@code withBinding(dim, SlideUp.PROPERTY_ALPHA, 1f, 0f)}.
+     * Bindings are applied before notification of listeners in one loop</p>
+     *
+     * @param target      view which property is changed
+     * @param property    one of {@link SlideUp#PROPERTY_ALPHA}, {@link SlideUp#PROPERTY_TRANSLATION_X},
+     *                    {@link SlideUp#PROPERTY_TRANSLATION_Y}, {@link SlideUp#PROPERTY_SCALE_X},
+     *                    {@link SlideUp#PROPERTY_SCALE_Y}, {@link SlideUp#PROPERTY_ROTATION}
+     * @param showedValue value of property when slider is showed
+     * @param hiddenValue value of property when slider is hidden
+     */
+    public SlideUpBuilder withBinding(@NonNull View target, @SlideUp.BoundProperty int property, float showedValue, float hiddenValue) {
+        mBindings.add(target, property, new float[]{0, 100}, new float[]{showedValue, hiddenValue});
+        return this;
+    }
+    
+    /**
+     * <p>Bind property of the view to the slide percent by keyframed mapping,
+     * value is interpolated linearly between keyframes and kept at the first and the last keyframes outside of them</p>
+     *
+     * @param target   view which property is changed
+     * @param property one of {@link SlideUp#PROPERTY_ALPHA}, {@link SlideUp#PROPERTY_TRANSLATION_X},
+     *                 {@link SlideUp#PROPERTY_TRANSLATION_Y}, {@link SlideUp#PROPERTY_SCALE_X},
+     *                 {@link SlideUp#PROPERTY_SCALE_Y}, {@link SlideUp#PROPERTY_ROTATION}
+     * @param percents ascending percents of keyframes <b color="#EF6C00">(100 = HIDDEN, 0 = SHOWED)</b>
+     * @param values   values of property at keyframes
+     */
+    public SlideUpBuilder withBinding(@NonNull View target, @SlideUp.BoundProperty int property, @NonNull float[] percents, @NonNull float[] values) {
+        mBindings.add(target, property, percents, values);
+        return this;
+    }
+    
     /**
      * <p>Turning on/off debug logging for all handled events</p>
      *
@@ -169,6 +236,213 @@ public final class SlideUpBuilder {
         return this;
     }
     
+    /**
+     * <p>Turning on/off spring animation, duration of animation is defined by the physics
+     * and {@link #withAutoSlideDuration(int)} with {@link #withInterpolator(TimeInterpolator)} are ignored</p>
+     *
+     * @param enabled <b>(default - <b color="#EF6C00">false</b>)</b>
+     */
+    public SlideUpBuilder withSpringAnimationEnabled(boolean enabled) {
+        mSpringAnimation = enabled;
+        return this;
+    }
+    
+    /**
+     * <p>Define stiffness of spring animation, the higher the stiffness the faster the animation</p>
+     *
+     * @param stiffness <b>(default - <b color="#EF6C00">1500</b>)</b>
+     */
+    public SlideUpBuilder withSpringStiffness(float stiffness) {
+        if (stiffness <= 0) {
+            throw new IllegalArgumentException("Spring stiffness must be positive");
+        }
+        mSpringStiffness = stiffness;
+        return this;
+    }
+    
+    /**
+     * <p>Define whether slider should be switched to {@link View#LAYER_TYPE_HARDWARE} while it moves</p>
+     *
+     * @param mode {@link SlideUp#MOTION_LAYER_NONE}, {@link SlideUp#MOTION_LAYER_ALWAYS} or {@link SlideUp#MOTION_LAYER_AUTO}
+     *             <b>(default - <b color="#EF6C00">{@link SlideUp#MOTION_LAYER_NONE}</b>)</b>
+     */
+    public SlideUpBuilder withMotionLayer(@SlideUp.MotionLayer int mode) {
+        mMotionLayer = mode;
+        return this;
+    }
+    
+    /**
+     * <p>Turning on/off applying of dragged position once per display frame instead of every touch event,
+     * has effect since {@link android.os.Build.VERSION_CODES#JELLY_BEAN}</p>
+     *
+     * @param enabled <b>(default - <b color="#EF6C00">false</b>)</b>
+     */
+    public SlideUpBuilder withFrameAlignedDragEnabled(boolean enabled) {
+        mFrameAlignedDrag = enabled;
+        return this;
+    }
+    
+    /**
+     * <p>Turning on/off prediction of the finger position a half of a frame ahead while dragging,
+     * reduces perceived latency of the slider</p>
+     *
+     * @param enabled <b>(default - <b color="#EF6C00">false</b>)</b>
+     */
+    public SlideUpBuilder withTouchPredictionEnabled(boolean enabled) {
+        mTouchPrediction = enabled;
+        return this;
+    }
+    
+    /**
+     * <p>Turning on frame timing monitor, {@link FrameStats} of every drag and animation will be passed to the listener,
+     * has effect since {@link android.os.Build.VERSION_CODES#JELLY_BEAN}</p>
+     *
+     * @param listener <b>(default - <b color="#EF6C00">null</b>, monitor is disabled)</b>
+     */
+    public SlideUpBuilder withFrameStatsListener(@Nullable FrameStats.Listener listener) {
+        mFrameStatsListener = listener;
+        return this;
+    }
+    
+    /**
+     * <p>Turning on/off binding to lifecycle of {@link android.app.Activity} which hosts the slider:
+     * while the activity is stopped animations jump to their end, listeners aren't notified
+     * and layout of slider is deferred, when the activity is destroyed SlideUp is released</p>
+     *
+     * @param enabled <b>(default - <b color="#EF6C00">false</b>)</b>
+     * @see SlideUp#onHostStopped()
+     * @see SlideUp#release()
+     */
+    public SlideUpBuilder withLifecycleBinding(boolean enabled) {
+        mLifecycleBinding = enabled;
+        return this;
+    }
+    
+    /**
+     * <p>Define shared {@link FramePulse} which drives animations of this and other sliders from one frame callback,
+     * has effect since {@link android.os.Build.VERSION_CODES#JELLY_BEAN}</p>
+     *
+     * @param pulse <b>(default - <b color="#EF6C00">null</b>, slider uses its own animator)</b>
+     */
+    public SlideUpBuilder withFramePulse(@Nullable FramePulse pulse) {
+        mFramePulse = pulse;
+        return this;
+    }
+    
+    /**
+     * <p>Define whether {@link SlideUp#show()}, {@link SlideUp#hide()} and {@link SlideUp#anchor(int)} should move slider
+     * by {@link android.view.ViewPropertyAnimator}, which runs on RenderThread and stays smooth while the main thread
+     * is busy, e.g. binding content of the just showed slider. Listeners are notified from the main thread with sampled
+     * progress, so they may lag behind the slider. Has effect since {@link android.os.Build.VERSION_CODES#LOLLIPOP},
+     * release of the gesture is animated as usual</p>
+     *
+     * @param enabled <b>(default - <b color="#EF6C00">false</b>)</b>
+     */
+    public SlideUpBuilder withRenderThreadAnimationEnabled(boolean enabled) {
+        mRenderThreadAnimation = enabled;
+        return this;
+    }
+    
+    /**
+     * <p>Define whether slider should be measured against constraints of its parent right in {@link #build()},
+     * so pivots, touchable area and translation of the start state are set before the first frame
+     * instead of waiting for the global layout. It is possible when slider or its parent is already measured
+     * or slider has exact size, otherwise slider still waits for the layout pass</p>
+     *
+     * @param enabled <b>(default - <b color="#EF6C00">false</b>)</b>
+     */
+    public SlideUpBuilder withPreMeasureEnabled(boolean enabled) {
+        mPreMeasure = enabled;
+        return this;
+    }
+    
+    /**
+     * <p>Define layout of slider content which is inflated on the background thread instead of the screen startup,
+     * slider must be a {@link ViewGroup}, its children are shown as placeholder and are replaced by the content</p>
+     *
+     * @param layout    layout resource of content
+     * @param inflation {@link SlideUp#CONTENT_INFLATE_ON_DEMAND} or {@link SlideUp#CONTENT_INFLATE_ASYNC}
+     *                  <b>(default - <b color="#EF6C00">content is a part of slider</b>)</b>
+     * @see #withContentListener(SlideUp.OnContentInflatedListener)
+     */
+    public SlideUpBuilder withContentLayout(@LayoutRes int layout, @SlideUp.ContentInflation int inflation) {
+        if (!(mSliderView instanceof ViewGroup)) {
+            throw new IllegalArgumentException("Slider must be a ViewGroup to hold the content");
+        }
+        mContentLayout = layout;
+        mContentStub = null;
+        mContentInflation = inflation;
+        return this;
+    }
+    
+    /**
+     * <p>Define {@link ViewStub} inside of slider which is replaced by the content inflated on the background thread
+     * instead of the screen startup, other views of slider can be used as placeholder</p>
+     *
+     * @param stub      stub of content with defined layout resource
+     * @param inflation {@link SlideUp#CONTENT_INFLATE_ON_DEMAND} or {@link SlideUp#CONTENT_INFLATE_ASYNC}
+     *                  <b>(default - <b color="#EF6C00">content is a part of slider</b>)</b>
+     * @see #withContentListener(SlideUp.OnContentInflatedListener)
+     */
+    public SlideUpBuilder withContentStub(@NonNull ViewStub stub, @SlideUp.ContentInflation int inflation) {
+        Internal.checkNonNull(stub, "ViewStub can't be null");
+        if (!(stub.getParent() instanceof ViewGroup)) {
+            throw new IllegalArgumentException("ViewStub must be attached to the slider");
+        }
+        mContentStub = stub;
+        mContentLayout = 0;
+        mContentInflation = inflation;
+        return this;
+    }
+    
+    /**
+     * <p>Define listener which is notified when content defined by {@link #withContentLayout(int, int)}
+     * or {@link #withContentStub(ViewStub, int)} is inflated and added to slider, e.g. to bind data to the content</p>
+     *
+     * @param listener <b>(default - <b color="#EF6C00">null</b>)</b>
+     */
+    public SlideUpBuilder withContentListener(@Nullable SlideUp.OnContentInflatedListener listener) {
+        mContentListener = listener;
+        return this;
+    }
+    
+    /**
+     * <p>Define anchors <b>(in px)</b> where slider can stop between showed and hidden states,
+     * every anchor is a height (or width for horizontal gravity) of visible part of slider,
+     * anchors which don't fit into slider are ignored</p>
+     *
+     * <p>Stopped at anchor slider has state {@link SlideUp.State#ANCHORED}, first anchor is the smallest visible part</p>
+     *
+     * @param anchors <b>(default - <b color="#EF6C00">no anchors</b>)</b>
+     */
+    public SlideUpBuilder withAnchorsPx(float... anchors) {
+        for (float anchor : anchors) {
+            if (anchor <= 0) {
+                throw new IllegalArgumentException("Anchor must be positive");
+            }
+        }
+        mAnchors.setAnchorsPx(anchors);
+        return this;
+    }
+    
+    /**
+     * <p>Define anchors where slider can stop between showed and hidden states,
+     * every anchor is a visible fraction of slider, e.g. <b>0.5f</b> means that half of slider is visible</p>
+     *
+     * <p>Stopped at anchor slider has state {@link SlideUp.State#ANCHORED}, first anchor is the smallest visible part</p>
+     *
+     * @param fractions values between <b>0</b> and <b>1</b> exclusive <b>(default - <b color="#EF6C00">no anchors</b>)</b>
+     */
+    public SlideUpBuilder withAnchorFractions(float... fractions) {
+        for (float fraction : fractions) {
+            if (fraction <= 0 || fraction >= 1) {
+                throw new IllegalArgumentException("Anchor fraction must be between 0 and 1 exclusive");
+            }
+        }
+        mAnchors.setAnchorFractions(fractions);
+        return this;
+    }
+    
     /**
      * @param savedState parameters will be restored from this bundle, if it contains them
      */
@@ -176,6 +450,15 @@ public final class SlideUpBuilder {
         restoreParams(savedState);
         return this;
     }
+    
+    /**
+     * @param savedState parameters and position of slider will be restored from this state
+     * @see SlideUp#onSaveInstanceState()
+     */
+    public SlideUpBuilder withSavedState(@Nullable SlideUpSavedState savedState) {
+        restoreParams(savedState);
+        return this;
+    }
 
 
     /**
@@ -200,6 +483,13 @@ public final class SlideUpBuilder {
      */
     private void restoreParams(@Nullable Bundle savedState) {
         if (savedState == null) return;
+        savedState.setClassLoader(SlideUpSavedState.class.getClassLoader());
+        SlideUpSavedState state = savedState.getParcelable(SlideUp.KEY_SAVED_STATE);
+        if (state != null) {
+            restoreParams(state);
+            return;
+        }
+        // bundle written by the previous versions
         mStateRestored = savedState.getBoolean(SlideUp.KEY_STATE_SAVED, false);
         if (savedState.getSerializable(SlideUp.KEY_STATE) != null) {
             mStartState = (SlideUp.State) savedState.getSerializable(SlideUp.KEY_STATE);
@@ -210,4 +500,19 @@ public final class SlideUpBuilder {
         mAutoSlideDuration = savedState.getInt(SlideUp.KEY_AUTO_SLIDE_DURATION, mAutoSlideDuration);
         mHideKeyboard = savedState.getBoolean(SlideUp.KEY_HIDE_SOFT_INPUT, mHideKeyboard);
     }
+    
+    private void restoreParams(@Nullable SlideUpSavedState savedState) {
+        if (savedState == null) return;
+        mStateRestored = true;
+        if (savedState.getState() != null) {
+            mStartState = savedState.getState();
+        }
+        mStartAnchor = Math.max(savedState.mAnchor, 0);
+        mStartProgress = savedState.mProgress;
+        mStartGravity = savedState.mStartGravity;
+        mDebug = savedState.mDebug;
+        mTouchableArea = savedState.mTouchableAreaDp * mDensity;
+        mAutoSlideDuration = savedState.mAutoSlideDuration;
+        mHideKeyboard = savedState.mHideSoftInput;
+    }
 }
\ No newline at end of file
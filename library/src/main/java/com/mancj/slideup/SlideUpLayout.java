@@ -0,0 +1,301 @@
+package com.mancj.slideup;
+
+import android.content.Context;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.view.NestedScrollingParent2;
+import android.support.v4.view.NestedScrollingParentHelper;
+import android.support.v4.view.ViewCompat;
+import android.util.AttributeSet;
+import android.view.Gravity;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewConfiguration;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+/**
+ * <p>Container for scrollable content of slider (e.g. {@code RecyclerView} or {@code NestedScrollView})
+ * which hands off nested scrolling between the content and the slider</p>
+ *
+ * <p>Content scrolls until it reaches its edge, then the slider is dragged. When the slider was dragged,
+ * fling settles the slider instead of scrolling the content, otherwise the content flings as usual</p>
+ *
+ * <p>If this layout is the view passed to {@link SlideUpBuilder} it is attached automatically,
+ * if it is placed deeper inside the slider use {@link #setSlideUp(SlideUp)}</p>
+ *
+ * <p>Attached as the slider itself it also replaces {@link View.OnTouchListener} of SlideUp: touch events are dispatched
+ * to children as usual, and the gesture is intercepted only when it passes touch slop towards the possible slide
+ * and no child can scroll in that direction. Taps and scrolls inside of the content don't go through SlideUp at all</p>
+ */
+public class SlideUpLayout extends FrameLayout implements NestedScrollingParent2 {
+    private final NestedScrollingParentHelper mParentHelper = new NestedScrollingParentHelper(this);
+    
+    private final int mTouchSlop;
+    
+    private SlideUp mSlideUp;
+    private boolean mDragged;
+    private boolean mSettled;
+    private MotionEvent mDownEvent;
+    
+    public SlideUpLayout(@NonNull Context context) {
+        this(context, null);
+    }
+    
+    public SlideUpLayout(@NonNull Context context, @Nullable AttributeSet attrs) {
+        this(context, attrs, 0);
+    }
+    
+    public SlideUpLayout(@NonNull Context context, @Nullable AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+        mTouchSlop = ViewConfiguration.get(context).getScaledTouchSlop();
+    }
+    
+    /**
+     * <p>Define SlideUp which slider is dragged by nested scrolling of the content of this layout</p>
+     */
+    public void setSlideUp(@Nullable SlideUp slideUp) {
+        mSlideUp = slideUp;
+        mDragged = false;
+    }
+    
+    /**
+     * <p>Returns SlideUp which slider is dragged by nested scrolling of the content of this layout</p>
+     */
+    @Nullable
+    public SlideUp getSlideUp() {
+        return mSlideUp;
+    }
+    
+    @Override
+    public boolean onInterceptTouchEvent(MotionEvent event) {
+        if (!isTouchHost()) {
+            return super.onInterceptTouchEvent(event);
+        }
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                // SlideUp gets ACTION_DOWN only when the gesture is intercepted,
+                // so a tap on a child doesn't stop the animation of the slider
+                recycleDownEvent();
+                mDownEvent = MotionEvent.obtain(event);
+                return false;
+            case MotionEvent.ACTION_MOVE:
+                if (mDownEvent != null && shouldIntercept(event)) {
+                    mSlideUp.startInterceptedDrag(mDownEvent, event);
+                    recycleDownEvent();
+                    return true;
+                }
+                return false;
+            case MotionEvent.ACTION_UP:
+            case MotionEvent.ACTION_CANCEL:
+                recycleDownEvent();
+                return false;
+            default:
+                return false;
+        }
+    }
+    
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        if (!isTouchHost()) {
+            return super.onTouchEvent(event);
+        }
+        if (event.getActionMasked() == MotionEvent.ACTION_DOWN) {
+            // no child takes the gesture, so it is passed to SlideUp from the start
+            recycleDownEvent();
+        }
+        mSlideUp.onTouch(this, event);
+        return true;
+    }
+    
+    private void recycleDownEvent() {
+        if (mDownEvent != null) {
+            mDownEvent.recycle();
+            mDownEvent = null;
+        }
+    }
+    
+    /**
+     * <p>Returns true if this layout is the slider and passes touch events to SlideUp by itself</p>
+     */
+    private boolean isTouchHost() {
+        return mSlideUp != null && mSlideUp.getSliderView() == this && mSlideUp.isGesturesEnabled();
+    }
+    
+    private boolean shouldIntercept(MotionEvent event) {
+        if (!mSlideUp.canDragFrom(mDownEvent) || (mParentHelper.getNestedScrollAxes() & getSlideAxis()) != 0) {
+            // nested scrolling of the content hands off the slide by itself
+            return false;
+        }
+        boolean vertical = getSlideAxis() == ViewCompat.SCROLL_AXIS_VERTICAL;
+        float moveX = event.getX() - mDownEvent.getX();
+        float moveY = event.getY() - mDownEvent.getY();
+        float move = vertical ? moveY : moveX;
+        float crossMove = vertical ? moveX : moveY;
+        if (Math.abs(move) <= mTouchSlop || Math.abs(move) <= Math.abs(crossMove)) {
+            return false;
+        }
+        float delta = toSlideDelta(-move);
+        float position = mSlideUp.getSlidePosition();
+        if (delta > 0 ? position >= mSlideUp.getSlideSize() : position <= 0) {
+            // slider can't move further in this direction
+            return false;
+        }
+        int direction = move > 0 ? -1 : 1;
+        return !canChildScroll(this, vertical, direction, (int) event.getX(), (int) event.getY());
+    }
+    
+    /**
+     * <p>Returns true if any view under the point (in coordinates of the view) can scroll in the direction</p>
+     */
+    private boolean canChildScroll(View view, boolean vertical, int direction, int x, int y) {
+        if (view instanceof ViewGroup) {
+            ViewGroup group = (ViewGroup) view;
+            int scrollX = view.getScrollX();
+            int scrollY = view.getScrollY();
+            for (int i = group.getChildCount() - 1; i >= 0; i--) {
+                View child = group.getChildAt(i);
+                int childX = x + scrollX - child.getLeft();
+                int childY = y + scrollY - child.getTop();
+                if (child.getVisibility() == VISIBLE
+                        && childX >= 0 && childX < child.getWidth() && childY >= 0 && childY < child.getHeight()
+                        && canChildScroll(child, vertical, direction, childX, childY)) {
+                    return true;
+                }
+            }
+        }
+        return view != this && (vertical ? view.canScrollVertically(direction) : view.canScrollHorizontally(direction));
+    }
+    
+    @Override
+    public boolean onStartNestedScroll(@NonNull View child, @NonNull View target, int axes, int type) {
+        return mSlideUp != null && mSlideUp.isGesturesEnabled() && (axes & getSlideAxis()) != 0;
+    }
+    
+    @Override
+    public void onNestedScrollAccepted(@NonNull View child, @NonNull View target, int axes, int type) {
+        mParentHelper.onNestedScrollAccepted(child, target, axes, type);
+        if (type == ViewCompat.TYPE_TOUCH) {
+            mDragged = false;
+            mSettled = false;
+        }
+    }
+    
+    @Override
+    public void onStopNestedScroll(@NonNull View target, int type) {
+        mParentHelper.onStopNestedScroll(target, type);
+        if (type == ViewCompat.TYPE_TOUCH && mDragged && !mSettled && mSlideUp != null) {
+            mSlideUp.settle(0);
+        }
+        if (type == ViewCompat.TYPE_TOUCH) {
+            mDragged = false;
+        }
+    }
+    
+    @Override
+    public void onNestedScroll(@NonNull View target, int dxConsumed, int dyConsumed,
+                               int dxUnconsumed, int dyUnconsumed, int type) {
+        if (type != ViewCompat.TYPE_TOUCH || mSlideUp == null) {
+            return;
+        }
+        // content reached its edge, the rest of scroll moves the slider towards the hidden position
+        float delta = toSlideDelta(dxUnconsumed, dyUnconsumed);
+        if (delta > 0 && mSlideUp.dragBy(delta) != 0) {
+            mDragged = true;
+        }
+    }
+    
+    @Override
+    public void onNestedPreScroll(@NonNull View target, int dx, int dy, @NonNull int[] consumed, int type) {
+        if (type != ViewCompat.TYPE_TOUCH || mSlideUp == null) {
+            return;
+        }
+        // slider is showed fully before the content is scrolled
+        float delta = toSlideDelta(dx, dy);
+        if (delta < 0) {
+            float moved = mSlideUp.dragBy(delta);
+            if (moved != 0) {
+                mDragged = true;
+                int scrollConsumed = Math.round(toSlideDelta(moved));
+                if (getSlideAxis() == ViewCompat.SCROLL_AXIS_VERTICAL) {
+                    consumed[1] = scrollConsumed;
+                } else {
+                    consumed[0] = scrollConsumed;
+                }
+            }
+        }
+    }
+    
+    @Override
+    public boolean onNestedPreFling(@NonNull View target, float velocityX, float velocityY) {
+        if (!mDragged || mSlideUp == null) {
+            return false;
+        }
+        float velocity = getSlideAxis() == ViewCompat.SCROLL_AXIS_VERTICAL ? velocityY : velocityX;
+        mSlideUp.settle(toSlideDelta(velocity));
+        mSettled = true;
+        return true;
+    }
+    
+    @Override
+    public boolean onNestedFling(@NonNull View target, float velocityX, float velocityY, boolean consumed) {
+        return false;
+    }
+    
+    @Override
+    public int getNestedScrollAxes() {
+        return mParentHelper.getNestedScrollAxes();
+    }
+    
+    @Override
+    public boolean onStartNestedScroll(@NonNull View child, @NonNull View target, int axes) {
+        return onStartNestedScroll(child, target, axes, ViewCompat.TYPE_TOUCH);
+    }
+    
+    @Override
+    public void onNestedScrollAccepted(@NonNull View child, @NonNull View target, int axes) {
+        onNestedScrollAccepted(child, target, axes, ViewCompat.TYPE_TOUCH);
+    }
+    
+    @Override
+    public void onStopNestedScroll(@NonNull View target) {
+        onStopNestedScroll(target, ViewCompat.TYPE_TOUCH);
+    }
+    
+    @Override
+    public void onNestedScroll(@NonNull View target, int dxConsumed, int dyConsumed, int dxUnconsumed, int dyUnconsumed) {
+        onNestedScroll(target, dxConsumed, dyConsumed, dxUnconsumed, dyUnconsumed, ViewCompat.TYPE_TOUCH);
+    }
+    
+    @Override
+    public void onNestedPreScroll(@NonNull View target, int dx, int dy, @NonNull int[] consumed) {
+        onNestedPreScroll(target, dx, dy, consumed, ViewCompat.TYPE_TOUCH);
+    }
+    
+    private int getSlideAxis() {
+        switch (mSlideUp.getStartGravity()) {
+            case Gravity.TOP:
+            case Gravity.BOTTOM:
+                return ViewCompat.SCROLL_AXIS_VERTICAL;
+            default:
+                return ViewCompat.SCROLL_AXIS_HORIZONTAL;
+        }
+    }
+    
+    private float toSlideDelta(int dx, int dy) {
+        return toSlideDelta(getSlideAxis() == ViewCompat.SCROLL_AXIS_VERTICAL ? dy : dx);
+    }
+    
+    /**
+     * <p>Converts scroll of the content to the movement of the slider towards the hidden position and vice versa</p>
+     */
+    private float toSlideDelta(float scroll) {
+        switch (mSlideUp.getStartGravity()) {
+            case Gravity.TOP:
+            case Gravity.START:
+                return scroll;
+            default:
+                return -scroll;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.mancj.slideup;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+
+/**
+ * <p>Saved parameters and position of {@link SlideUp}, created by {@link SlideUp#onSaveInstanceState()}
+ * and restored by {@link SlideUpBuilder#withSavedState(SlideUpSavedState)}</p>
+ *
+ * <p>State is written as a few primitives, so it is cheap to save and restore after rotation or process death</p>
+ */
+public final class SlideUpSavedState implements Parcelable {
+    private static final int FLAG_DEBUG = 1;
+    private static final int FLAG_HIDE_SOFT_INPUT = 1 << 1;
+    
+    int mStartGravity;
+    boolean mDebug;
+    float mTouchableAreaDp;
+    int mState = -1;
+    int mAnchor = -1;
+    int mAutoSlideDuration;
+    boolean mHideSoftInput;
+    
+    /**
+     * Position of slider (0 = SHOWED, 1 = HIDDEN) if it was stopped between states by the gesture, otherwise NaN
+     */
+    float mProgress = Float.NaN;
+    
+    SlideUpSavedState() {
+    }
+    
+    private SlideUpSavedState(Parcel in) {
+        mStartGravity = in.readInt();
+        byte flags = in.readByte();
+        mDebug = (flags & FLAG_DEBUG) != 0;
+        mHideSoftInput = (flags & FLAG_HIDE_SOFT_INPUT) != 0;
+        mTouchableAreaDp = in.readFloat();
+        mState = in.readInt();
+        mAnchor = in.readInt();
+        mAutoSlideDuration = in.readInt();
+        mProgress = in.readFloat();
+    }
+    
+    /**
+     * <p>Returns the last state where slider was stopped, or the state where the running animation was going to stop,
+     * or null if slider wasn't placed yet or the state is unknown</p>
+     */
+    public SlideUp.State getState() {
+        SlideUp.State[] states = SlideUp.State.values();
+        // state may be written by the version with another set of states
+        return mState >= 0 && mState < states.length ? states[mState] : null;
+    }
+    
+    /**
+     * <p>Returns position of slider <b color="#EF6C00">(0 = SHOWED, 1 = HIDDEN)</b> if it was stopped between states
+     * by the gesture, otherwise NaN. Running animation is saved as the state where it stops</p>
+     */
+    public float getProgress() {
+        return mProgress;
+    }
+    
+    @Override
+    public void writeToParcel(Parcel dest, int flags) {
+        dest.writeInt(mStartGravity);
+        dest.writeByte((byte) ((mDebug ? FLAG_DEBUG : 0) | (mHideSoftInput ? FLAG_HIDE_SOFT_INPUT : 0)));
+        dest.writeFloat(mTouchableAreaDp);
+        dest.writeInt(mState);
+        dest.writeInt(mAnchor);
+        dest.writeInt(mAutoSlideDuration);
+        dest.writeFloat(mProgress);
+    }
+    
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+    
+    public static final Creator<SlideUpSavedState> CREATOR = new Creator<SlideUpSavedState>() {
+        @Override
+        public SlideUpSavedState createFromParcel(Parcel in) {
+            return new SlideUpSavedState(in);
+        }
+    
+        @Override
+        public SlideUpSavedState[] newArray(int size) {
+            return new SlideUpSavedState[size];
+        }
+    };
+}
@@ -0,0 +1,37 @@
+package com.mancj.slideup;
+
+/**
+ * <p>Hides soft input once per transition of slider towards showed state,
+ * instead of calling {@link android.view.inputmethod.InputMethodManager} on every frame</p>
+ *
+ * <p>Direction is taken from the change of percent, so drags and animations are handled the same way.
+ * Hiding is re-armed when slider stops at showed or hidden state, e.g. after it was shown fully,
+ * dragged to anchor and shown again, soft input is hidden again</p>
+ */
+class SoftInputCoordinator {
+    private final SlideUp mSlideUp;
+    private final SlideUpBuilder mBuilder;
+    private boolean mHiddenInTransition;
+    private float mLastPercent = Float.NaN;
+    
+    SoftInputCoordinator(SlideUp slideUp, SlideUpBuilder builder) {
+        mSlideUp = slideUp;
+        mBuilder = builder;
+    }
+    
+    /**
+     * @param percent current percent of slide <b>(100 = HIDDEN, 0 = SHOWED)</b>
+     */
+    void onPercentChanged(float percent) {
+        boolean towardsShowed = percent < mLastPercent;
+        mLastPercent = percent;
+        if (towardsShowed && !mHiddenInTransition && mBuilder.mHideKeyboard) {
+            mHiddenInTransition = true;
+            mSlideUp.hideSoftInput();
+        }
+        if (percent == 0 || percent == 100) {
+            // transition is finished, the next one towards showed state hides soft input again
+            mHiddenInTransition = false;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.mancj.slideup;
+
+import android.animation.Animator;
+import android.animation.ValueAnimator;
+
+/**
+ * <p>{@link AnimationBackend} which animates with critically damped spring,
+ * duration of animation is defined by the physics instead of {@link SlideUpBuilder#mAutoSlideDuration}</p>
+ *
+ * @see SpringCurve
+ */
+class SpringAnimationBackend implements AnimationBackend {
+    private SlideUpBuilder mBuilder;
+    private ValueAnimator mValueAnimator;
+    private SpringCurve mCurve = new SpringCurve();
+    
+    SpringAnimationBackend(SlideUpBuilder builder, ValueAnimator.AnimatorUpdateListener updateListener, Animator.AnimatorListener listener) {
+        mBuilder = builder;
+        mValueAnimator = ValueAnimator.ofFloat();
+        mValueAnimator.setInterpolator(mCurve);
+        mValueAnimator.addUpdateListener(updateListener);
+        mValueAnimator.addListener(listener);
+        paramsChanged();
+    }
+    
+    @Override
+    public void start(float from, float to, float velocity) {
+        if (mValueAnimator.isRunning()) {
+            float time = mValueAnimator.getCurrentPlayTime() / 1000f;
+            if (time < mCurve.getDuration()) {
+                from = mCurve.positionAt(time);
+                velocity = mCurve.velocityAt(time);
+            }
+            mValueAnimator.cancel();
+        }
+        mCurve.set(from, to, velocity);
+        mValueAnimator.setDuration((long) (mCurve.getDuration() * 1000));
+        mValueAnimator.setFloatValues(from, to);
+        mValueAnimator.start();
+    }
+    
+    @Override
+    public void end() {
+        if (mValueAnimator.getValues() != null && mValueAnimator.isRunning()) {
+            mValueAnimator.end();
+        }
+    }
+    
+    @Override
+    public void cancel() {
+        if (mValueAnimator.isRunning()) {
+            mValueAnimator.cancel();
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return mValueAnimator.isRunning();
+    }
+    
+    @Override
+    public void paramsChanged() {
+        mCurve.setStiffness(mBuilder.mSpringStiffness);
+    }
+    
+    @Override
+    public void release() {
+        mValueAnimator.removeAllUpdateListeners();
+        mValueAnimator.removeAllListeners();
+        mValueAnimator.cancel();
+    }
+}
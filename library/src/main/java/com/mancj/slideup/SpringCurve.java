@@ -0,0 +1,117 @@
+package com.mancj.slideup;
+
+import android.animation.TimeInterpolator;
+
+/**
+ * <p>Motion of critically damped spring, used by animation backends as an interpolator</p>
+ *
+ * <p>Displacement from the target is {@code x(t) = (x0 + (v0 + w * x0) * t) * e^(-w * t)},
+ * where {@code w = sqrt(stiffness)}</p>
+ *
+ * <p>Motion is clamped between the start and the target: fast release would push the spring past the target,
+ * e.g. beyond the hidden edge or past the showed position, so the motion ends when the target is reached</p>
+ */
+class SpringCurve implements TimeInterpolator {
+    /**
+     * Motion is finished when the displacement is less than this value (in px)
+     */
+    private static final float REST_DISPLACEMENT = 0.5f;
+    
+    /**
+     * Motion is finished when the speed is less than this value (in px/s)
+     */
+    private static final float REST_VELOCITY = 10f;
+    
+    private static final float MAX_DURATION = 2f;
+    private static final float DURATION_STEP = 0.004f;
+    
+    private float mOmega;
+    private float mTo;
+    private float mDisplacement;
+    private float mVelocity;
+    private float mDuration;
+    
+    void setStiffness(float stiffness) {
+        mOmega = (float) Math.sqrt(stiffness);
+    }
+    
+    /**
+     * <p>Starts the new motion, duration of motion is defined by the physics</p>
+     *
+     * @param velocity initial velocity (in px/s)
+     */
+    void set(float from, float to, float velocity) {
+        mTo = to;
+        mDisplacement = from - to;
+        mVelocity = velocity;
+        mDuration = calculateDuration();
+    }
+    
+    /**
+     * <p>Returns duration of the motion (in seconds)</p>
+     */
+    float getDuration() {
+        return mDuration;
+    }
+    
+    float positionAt(float time) {
+        return mTo + clamp(displacementAt(time));
+    }
+    
+    float velocityAt(float time) {
+        float displacement = displacementAt(time);
+        if (clamp(displacement) != displacement) {
+            return 0;
+        }
+        float b = mVelocity + mOmega * mDisplacement;
+        return (float) ((mVelocity - mOmega * b * time) * Math.exp(-mOmega * time));
+    }
+    
+    /**
+     * <p>Maps the linear time fraction to the fraction of passed distance</p>
+     */
+    @Override
+    public float getInterpolation(float input) {
+        if (input >= 1 || mDisplacement == 0) {
+            return 1;
+        }
+        return 1 - clamp(displacementAt(input * mDuration)) / mDisplacement;
+    }
+    
+    /**
+     * <p>Limits displacement, so the motion doesn't pass the target or go back beyond the start</p>
+     */
+    private float clamp(float displacement) {
+        if (displacement * mDisplacement <= 0) {
+            return 0;
+        }
+        if (Math.abs(displacement) > Math.abs(mDisplacement)) {
+            return mDisplacement;
+        }
+        return displacement;
+    }
+    
+    private float displacementAt(float time) {
+        float b = mVelocity + mOmega * mDisplacement;
+        return (float) ((mDisplacement + b * time) * Math.exp(-mOmega * time));
+    }
+    
+    private float calculateDuration() {
+        if (mDisplacement == 0) {
+            return 0;
+        }
+        float time = 0;
+        while (time < MAX_DURATION) {
+            time += DURATION_STEP;
+            float displacement = displacementAt(time);
+            if (displacement * mDisplacement <= 0) {
+                // target is reached, motion doesn't overshoot it
+                break;
+            }
+            if (Math.abs(displacement) < REST_DISPLACEMENT && Math.abs(velocityAt(time)) < REST_VELOCITY) {
+                break;
+            }
+        }
+        return time;
+    }
+}
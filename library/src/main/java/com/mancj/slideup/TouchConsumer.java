@@ -1,17 +1,22 @@
 package com.mancj.slideup;
 
+import android.os.Build;
 import android.view.MotionEvent;
+import android.view.VelocityTracker;
 import android.view.View;
+import android.view.ViewConfiguration;
 
 /**
  * @author pa.gulko zTrap (12.07.2017)
  */
-class TouchConsumer {
+abstract class TouchConsumer {
     SlideUpBuilder mBuilder;
     AnimationProcessor mAnimationProcessor;
 
     boolean mCanSlide = true;
+    boolean mAnimationInterrupted;
     LoggerNotifier mNotifier;
+    private final MotionLayerController mMotionLayerController;
     
     float mViewHeight;
     float mViewWidth;
@@ -23,13 +28,42 @@ class TouchConsumer {
     float mViewStartPositionY;
     float mViewStartPositionX;
     
+    private VelocityTracker mVelocityTracker;
+    private final float mMinFlingVelocity;
+    private final float mMaxFlingVelocity;
+    
+    private TouchPredictor mTouchPredictor;
+    private DragFrameScheduler mFrameScheduler;
+    private float mPendingTranslation;
+    private float mPendingPercents;
+    
     TouchConsumer(SlideUpBuilder builder, LoggerNotifier notifier,
-                  AnimationProcessor animationProcessor){
+                  AnimationProcessor animationProcessor, MotionLayerController motionLayerController){
         mBuilder = builder;
         mAnimationProcessor = animationProcessor;
         mNotifier = notifier;
+        mMotionLayerController = motionLayerController;
+        ViewConfiguration configuration = ViewConfiguration.get(builder.mSliderView.getContext());
+        mMinFlingVelocity = configuration.getScaledMinimumFlingVelocity();
+        mMaxFlingVelocity = configuration.getScaledMaximumFlingVelocity();
+        if (builder.mTouchPrediction) {
+            mTouchPredictor = new TouchPredictor();
+        }
+        if (builder.mFrameAlignedDrag && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            mFrameScheduler = new DragFrameScheduler(this);
+        }
     }
     
+    /**
+     * <p>Sets translation of slider along the sliding axis</p>
+     */
+    abstract void applyTranslation(float translation);
+    
+    /**
+     * <p>Returns translation of slider along the sliding axis</p>
+     */
+    abstract float getTranslation();
+    
     int getEnd(){
         if (mBuilder.mIsRTL){
             return mBuilder.mSliderView.getLeft();
@@ -54,7 +88,158 @@ class TouchConsumer {
         return mBuilder.mSliderView.getBottom();
     }
 
-    boolean touchFromAlsoSlide(View touchedView, MotionEvent event) {
+    boolean touchFromAlsoSlide(View touchedView) {
         return touchedView == mBuilder.mAlsoScrollView;
     }
+    
+    /**
+     * <p>Moves start of the gesture to the current position of the finger, so the slider doesn't jump
+     * by the distance which the finger passed before the gesture was intercepted by {@link SlideUpLayout}</p>
+     */
+    void rebaseGesture(MotionEvent event) {
+        mStartPositionX = event.getRawX();
+        mStartPositionY = event.getRawY();
+    }
+    
+    /**
+     * <p>Common processing of every event before it is consumed</p>
+     */
+    void preConsume(MotionEvent event) {
+        if (event.getActionMasked() != MotionEvent.ACTION_MOVE) {
+            flushPendingDrag();
+        }
+        trackMovement(event);
+    }
+    
+    /**
+     * <p>Moves slider to the dragged position, in frame aligned mode the position
+     * is applied once per frame by {@link DragFrameScheduler}</p>
+     */
+    void dragTo(float translation, float percents) {
+        if (translation != getTranslation()) {
+            // slider is promoted only when it actually moves, not when the drag scrolls its content
+            mMotionLayerController.onMotionStarted();
+        }
+        if (mFrameScheduler == null) {
+            mNotifier.notifyPercentChanged(percents);
+            applyTranslation(translation);
+            return;
+        }
+        mPendingTranslation = translation;
+        mPendingPercents = percents;
+        mFrameScheduler.schedule();
+    }
+    
+    void applyPendingDrag() {
+        mNotifier.notifyPercentChanged(mPendingPercents);
+        applyTranslation(mPendingTranslation);
+    }
+    
+    /**
+     * <p>Immediately applies the drag position which waits for the next frame</p>
+     */
+    void flushPendingDrag() {
+        if (mFrameScheduler != null && mFrameScheduler.cancel()) {
+            applyPendingDrag();
+        }
+    }
+    
+    /**
+     * <p>Feeds the event with all its historical samples to the velocity tracker and the touch predictor in screen coordinates,
+     * because the local coordinates are shifted by the translation of the slider itself</p>
+     */
+    void trackMovement(MotionEvent event) {
+        if (event.getActionMasked() == MotionEvent.ACTION_DOWN) {
+            if (mVelocityTracker == null) {
+                mVelocityTracker = VelocityTracker.obtain();
+            } else {
+                mVelocityTracker.clear();
+            }
+        }
+        float offsetX = event.getRawX() - event.getX();
+        float offsetY = event.getRawY() - event.getY();
+        if (mTouchPredictor != null) {
+            if (event.getActionMasked() == MotionEvent.ACTION_DOWN) {
+                mTouchPredictor.reset();
+            }
+            for (int i = 0; i < event.getHistorySize(); i++) {
+                mTouchPredictor.addSample(event.getHistoricalEventTime(i),
+                        event.getHistoricalX(i) + offsetX, event.getHistoricalY(i) + offsetY);
+            }
+            mTouchPredictor.addSample(event.getEventTime(), event.getRawX(), event.getRawY());
+        }
+        if (mVelocityTracker == null) {
+            return;
+        }
+        event.offsetLocation(offsetX, offsetY);
+        mVelocityTracker.addMovement(event);
+        event.offsetLocation(-offsetX, -offsetY);
+    }
+    
+    /**
+     * @return horizontal position of the finger on screen, predicted if prediction is enabled
+     */
+    float getTouchX(MotionEvent event) {
+        return mTouchPredictor != null ? mTouchPredictor.predictX() : event.getRawX();
+    }
+    
+    /**
+     * @return vertical position of the finger on screen, predicted if prediction is enabled
+     */
+    float getTouchY(MotionEvent event) {
+        return mTouchPredictor != null ? mTouchPredictor.predictY() : event.getRawY();
+    }
+    
+    /**
+     * @return horizontal velocity of the current gesture in px/s
+     */
+    float getVelocityX() {
+        if (mVelocityTracker == null) {
+            return 0;
+        }
+        mVelocityTracker.computeCurrentVelocity(1000, mMaxFlingVelocity);
+        return mVelocityTracker.getXVelocity();
+    }
+    
+    /**
+     * @return vertical velocity of the current gesture in px/s
+     */
+    float getVelocityY() {
+        if (mVelocityTracker == null) {
+            return 0;
+        }
+        mVelocityTracker.computeCurrentVelocity(1000, mMaxFlingVelocity);
+        return mVelocityTracker.getYVelocity();
+    }
+    
+    /**
+     * <p>Drops pending drag and tracked velocity, called when SlideUp is released</p>
+     */
+    void release() {
+        if (mFrameScheduler != null) {
+            mFrameScheduler.cancel();
+        }
+        recycleVelocityTracker();
+    }
+    
+    void recycleVelocityTracker() {
+        if (mVelocityTracker != null) {
+            mVelocityTracker.recycle();
+            mVelocityTracker = null;
+        }
+    }
+    
+    /**
+     * <p>Decides where the slider should settle after release, the nearest of showed, hidden positions
+     * and anchors to the velocity-projected position is chosen</p>
+     *
+     * @param distance distance already passed towards the hidden position (in px)
+     * @param size full sliding distance (in px)
+     * @param velocity release velocity towards the hidden position (in px/s)
+     * @return distance towards the hidden position where slider should settle, equal to <b>size</b> if it should be hidden
+     */
+    float findSettlePosition(float distance, float size, float velocity) {
+        mBuilder.mAnchors.layout(size);
+        return mBuilder.mAnchors.findSettlePosition(distance, velocity, Math.abs(velocity) >= mMinFlingVelocity);
+    }
 }
@@ -0,0 +1,79 @@
+package com.mancj.slideup;
+
+/**
+ * <p>Predicts position of the finger a short time ahead by linear extrapolation
+ * of the latest touch samples, including historical samples of batched events</p>
+ */
+class TouchPredictor {
+    private static final int MAX_SAMPLES = 4;
+    
+    /**
+     * How far ahead <b>(in ms)</b> position is predicted, about a half of a frame
+     */
+    private static final float PREDICTION_TIME = 8f;
+    
+    private final long[] mTimes = new long[MAX_SAMPLES];
+    private final float[] mXs = new float[MAX_SAMPLES];
+    private final float[] mYs = new float[MAX_SAMPLES];
+    private int mHead = -1;
+    private int mCount;
+    
+    void reset() {
+        mHead = -1;
+        mCount = 0;
+    }
+    
+    /**
+     * @param time sample time <b>(in ms)</b>
+     */
+    void addSample(long time, float x, float y) {
+        mHead = (mHead + 1) % MAX_SAMPLES;
+        mTimes[mHead] = time;
+        mXs[mHead] = x;
+        mYs[mHead] = y;
+        if (mCount < MAX_SAMPLES) {
+            mCount++;
+        }
+    }
+    
+    float predictX() {
+        return predict(mXs);
+    }
+    
+    float predictY() {
+        return predict(mYs);
+    }
+    
+    /**
+     * <p>Latest value plus the least squares slope of samples multiplied by {@link #PREDICTION_TIME}</p>
+     */
+    private float predict(float[] values) {
+        if (mCount == 0) {
+            return 0;
+        }
+        float last = values[mHead];
+        if (mCount < 2) {
+            return last;
+        }
+        long lastTime = mTimes[mHead];
+        float meanTime = 0;
+        float meanValue = 0;
+        for (int i = 0; i < mCount; i++) {
+            meanTime += mTimes[i] - lastTime;
+            meanValue += values[i];
+        }
+        meanTime /= mCount;
+        meanValue /= mCount;
+        float covariance = 0;
+        float variance = 0;
+        for (int i = 0; i < mCount; i++) {
+            float time = mTimes[i] - lastTime - meanTime;
+            covariance += time * (values[i] - meanValue);
+            variance += time * time;
+        }
+        if (variance == 0) {
+            return last;
+        }
+        return last + covariance / variance * PREDICTION_TIME;
+    }
+}
@@ -0,0 +1,81 @@
+package com.mancj.slideup;
+
+import android.animation.Animator;
+import android.animation.ValueAnimator;
+
+/**
+ * <p>{@link AnimationBackend} which animates with fixed duration and interpolator</p>
+ */
+class TweenAnimationBackend implements AnimationBackend {
+    /**
+     * Shortest duration (in ms) of the settle animation after fling
+     */
+    private static final int MIN_SETTLE_DURATION = 80;
+    
+    private SlideUpBuilder mBuilder;
+    private ValueAnimator mValueAnimator;
+    
+    TweenAnimationBackend(SlideUpBuilder builder, ValueAnimator.AnimatorUpdateListener updateListener, Animator.AnimatorListener listener) {
+        mBuilder = builder;
+        mValueAnimator = ValueAnimator.ofFloat();
+        mValueAnimator.setDuration(mBuilder.mAutoSlideDuration);
+        mValueAnimator.setInterpolator(mBuilder.mInterpolator);
+        mValueAnimator.addUpdateListener(updateListener);
+        mValueAnimator.addListener(listener);
+    }
+    
+    @Override
+    public void start(float from, float to, float velocity) {
+        mValueAnimator.setDuration(calculateDuration(mBuilder, to - from, velocity));
+        mValueAnimator.setFloatValues(from, to);
+        mValueAnimator.start();
+    }
+    
+    @Override
+    public void end() {
+        if (mValueAnimator.getValues() != null && mValueAnimator.isRunning()) {
+            mValueAnimator.end();
+        }
+    }
+    
+    @Override
+    public void cancel() {
+        if (mValueAnimator.isRunning()) {
+            mValueAnimator.cancel();
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return mValueAnimator.isRunning();
+    }
+    
+    @Override
+    public void paramsChanged() {
+        mValueAnimator.setDuration(mBuilder.mAutoSlideDuration);
+        mValueAnimator.setInterpolator(mBuilder.mInterpolator);
+    }
+    
+    @Override
+    public void release() {
+        mValueAnimator.removeAllUpdateListeners();
+        mValueAnimator.removeAllListeners();
+        mValueAnimator.cancel();
+    }
+    
+    /**
+     * <p>Picks a duration so the initial speed of the animation matches the velocity</p>
+     */
+    static long calculateDuration(SlideUpBuilder builder, float distance, float velocity) {
+        if (distance == 0 || velocity == 0 || Math.signum(distance) != Math.signum(velocity)) {
+            return builder.mAutoSlideDuration;
+        }
+        // initial slope of interpolator, 2 for the default decelerate interpolator
+        float startSlope = builder.mInterpolator.getInterpolation(0.01f) / 0.01f;
+        if (startSlope <= 0) {
+            return builder.mAutoSlideDuration;
+        }
+        long duration = (long) (startSlope * Math.abs(distance) * 1000 / Math.abs(velocity));
+        return Math.max(MIN_SETTLE_DURATION, Math.min(duration, builder.mAutoSlideDuration));
+    }
+}
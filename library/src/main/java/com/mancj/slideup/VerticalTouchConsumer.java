@@ -7,49 +7,61 @@ import android.view.View;
  * @author pa.gulko zTrap (05.07.2017)
  */
 class VerticalTouchConsumer extends TouchConsumer {
-    private boolean mGoingUp = false;
-    private boolean mGoingDown = false;
+    VerticalTouchConsumer(SlideUpBuilder builder, LoggerNotifier notifier, AnimationProcessor animationProcessor,
+                          MotionLayerController motionLayerController) {
+        super(builder, notifier, animationProcessor, motionLayerController);
+    }
+    
+    @Override
+    void applyTranslation(float translation) {
+        mBuilder.mSliderView.setTranslationY(translation);
+    }
+    
+    @Override
+    float getTranslation() {
+        return mBuilder.mSliderView.getTranslationY();
+    }
+    
+    boolean canSlideBottomToTop(View touchedView, float touchedArea) {
+        return touchFromAlsoSlide(touchedView) || mBuilder.mTouchableArea >= touchedArea;
+    }
     
-    VerticalTouchConsumer(SlideUpBuilder builder, LoggerNotifier notifier, AnimationProcessor animationProcessor) {
-        super(builder, notifier, animationProcessor);
+    boolean canSlideTopToBottom(View touchedView, float touchedArea) {
+        return touchFromAlsoSlide(touchedView) || getBottom() - mBuilder.mTouchableArea <= touchedArea;
     }
     
     boolean consumeBottomToTop(View touchedView, MotionEvent event){
         float touchedArea = event.getY();
+        preConsume(event);
         switch (event.getActionMasked()){
             case MotionEvent.ACTION_DOWN:
                 mViewHeight = mBuilder.mSliderView.getHeight();
+                mCanSlide = canSlideBottomToTop(touchedView, touchedArea);
+                // touch which can't drag the slider (e.g. tap on its content) doesn't stop the animation
+                mAnimationInterrupted = mCanSlide && mAnimationProcessor.cancelAnimation();
                 mStartPositionY = event.getRawY();
                 mViewStartPositionY = mBuilder.mSliderView.getTranslationY();
-                mCanSlide = touchFromAlsoSlide(touchedView, event);
-                mCanSlide |= mBuilder.mTouchableArea >= touchedArea;
                 break;
             case MotionEvent.ACTION_MOVE:
-                float difference = event.getRawY() - mStartPositionY;
+                float difference = getTouchY(event) - mStartPositionY;
                 float moveTo = mViewStartPositionY + difference;
                 float percents = moveTo * 100 / mBuilder.mSliderView.getHeight();
-                calculateDirection(event);
-                
+
                 if (moveTo > 0 && mCanSlide){
-                    mNotifier.notifyPercentChanged(percents);
-                    mBuilder.mSliderView.setTranslationY(moveTo);
+                    dragTo(moveTo, percents);
                 }
                 break;
             case MotionEvent.ACTION_UP:
                 float slideAnimationFrom = mBuilder.mSliderView.getTranslationY();
-                if (slideAnimationFrom == mViewStartPositionY){
+                if ((!mCanSlide || slideAnimationFrom == mViewStartPositionY) && !mAnimationInterrupted){
                     return !Internal.isUpEventInView(mBuilder.mSliderView, event);
                 }
-                boolean scrollableAreaConsumed = mBuilder.mSliderView.getTranslationY() > mBuilder.mSliderView.getHeight() / 5;
+                float velocity = getVelocityY();
+                recycleVelocityTracker();
                 
-                if (scrollableAreaConsumed && mGoingDown){
-                    mAnimationProcessor.setValuesAndStart(slideAnimationFrom, mBuilder.mSliderView.getHeight());
-                } else {
-                    mAnimationProcessor.setValuesAndStart(slideAnimationFrom, 0);
-                }
+                float settleTo = findSettlePosition(slideAnimationFrom, mBuilder.mSliderView.getHeight(), velocity);
+                mAnimationProcessor.setValuesAndStart(slideAnimationFrom, settleTo, velocity);
                 mCanSlide = true;
-                mGoingUp = false;
-                mGoingDown = false;
                 break;
         }
         mPrevPositionY = event.getRawY();
@@ -59,37 +71,39 @@ class VerticalTouchConsumer extends TouchConsumer {
     
     boolean consumeTopToBottom(View touchedView, MotionEvent event){
         float touchedArea = event.getY();
+        preConsume(event);
         switch (event.getActionMasked()){
             case MotionEvent.ACTION_DOWN:
                 mViewHeight = mBuilder.mSliderView.getHeight();
+                mCanSlide = canSlideTopToBottom(touchedView, touchedArea);
+                // touch which can't drag the slider (e.g. tap on its content) doesn't stop the animation
+                mAnimationInterrupted = mCanSlide && mAnimationProcessor.cancelAnimation();
                 mStartPositionY = event.getRawY();
                 mViewStartPositionY = mBuilder.mSliderView.getTranslationY();
-                mCanSlide = touchFromAlsoSlide(touchedView, event);
-                mCanSlide |= getBottom() - mBuilder.mTouchableArea <= touchedArea;
                 break;
             case MotionEvent.ACTION_MOVE:
-                float difference = event.getRawY() - mStartPositionY;
+                float difference = getTouchY(event) - mStartPositionY;
                 float moveTo = mViewStartPositionY + difference;
                 float percents = moveTo * 100 / -mBuilder.mSliderView.getHeight();
-                calculateDirection(event);
-            
+
                 if (moveTo < 0 && mCanSlide){
-                    mNotifier.notifyPercentChanged(percents);
-                    mBuilder.mSliderView.setTranslationY(moveTo);
+                    dragTo(moveTo, percents);
                 }
                 break;
             case MotionEvent.ACTION_UP:
                 float slideAnimationFrom = -mBuilder.mSliderView.getTranslationY();
-                if (slideAnimationFrom == mViewStartPositionY){
+                // slideAnimationFrom is negated translation, so it is compared with the negated start translation
+                if ((!mCanSlide || slideAnimationFrom == -mViewStartPositionY) && !mAnimationInterrupted){
                     return !Internal.isUpEventInView(mBuilder.mSliderView, event);
                 }
-                boolean scrollableAreaConsumed = mBuilder.mSliderView.getTranslationY() < -mBuilder.mSliderView.getHeight() / 5;
+                float velocity = -getVelocityY();
+                recycleVelocityTracker();
             
-                if (scrollableAreaConsumed && mGoingUp){
-                    mAnimationProcessor.setValuesAndStart(slideAnimationFrom, mBuilder.mSliderView.getHeight() + mBuilder.mSliderView.getTop());
-                }else {
-                    mAnimationProcessor.setValuesAndStart(slideAnimationFrom, 0);
+                float settleTo = findSettlePosition(slideAnimationFrom, mBuilder.mSliderView.getHeight(), velocity);
+                if (settleTo == mBuilder.mSliderView.getHeight()){
+                    settleTo = mBuilder.mSliderView.getHeight() + mBuilder.mSliderView.getTop();
                 }
+                mAnimationProcessor.setValuesAndStart(slideAnimationFrom, settleTo, velocity);
                 mCanSlide = true;
                 break;
         }
@@ -97,9 +111,4 @@ class VerticalTouchConsumer extends TouchConsumer {
         mPrevPositionX = event.getRawX();
         return true;
     }
-
-    private void calculateDirection(MotionEvent event) {
-        mGoingUp = mPrevPositionY - event.getRawY() > 0;
-        mGoingDown = mPrevPositionY - event.getRawY() < 0;
-    }
 }